@@ -17,13 +17,17 @@
 package org.bonitasoft.web.designer;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Path;
+import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.controller.export.ExportException;
+import org.bonitasoft.web.designer.controller.export.ExportResult;
 import org.bonitasoft.web.designer.controller.importer.report.ImportReport;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
 import org.bonitasoft.web.designer.model.ModelException;
@@ -40,18 +44,71 @@ public interface ArtifactBuilder {
 
     byte[] build(Page page) throws ModelException, ExportException, IOException;
 
+    /**
+     * Export a page by writing the zip directly in the given stream, which is left open
+     */
+    void buildPage(String id, OutputStream stream) throws ModelException, ExportException, IOException;
+
+    /**
+     * Export a page in the given zip file, which is removed if the export fails
+     */
+    void buildPage(String id, Path target) throws ModelException, ExportException, IOException;
+
     byte[] buildFragment(String id) throws ModelException, ExportException, IOException;
 
     byte[] build(Fragment fragment) throws ModelException, ExportException, IOException;
 
+    /**
+     * Export a fragment by writing the zip directly in the given stream, which is left open
+     */
+    void buildFragment(String id, OutputStream stream) throws ModelException, ExportException, IOException;
+
+    /**
+     * Export a fragment in the given zip file, which is removed if the export fails
+     */
+    void buildFragment(String id, Path target) throws ModelException, ExportException, IOException;
+
     byte[] buildWidget(String id) throws ModelException, ExportException, IOException;
 
     byte[] build(Widget widget) throws ModelException, ExportException, IOException;
 
+    /**
+     * Export a widget by writing the zip directly in the given stream, which is left open
+     */
+    void buildWidget(String id, OutputStream stream) throws ModelException, ExportException, IOException;
+
+    /**
+     * Export a widget in the given zip file, which is removed if the export fails
+     */
+    void buildWidget(String id, Path target) throws ModelException, ExportException, IOException;
+
+    /**
+     * Export several pages concurrently. Results are returned in the order of the given ids, and a failing export does
+     * not prevent the other ones.
+     */
+    List<ExportResult> buildPages(List<String> ids);
+
+    /**
+     * Export several fragments concurrently, see {@link #buildPages(List)}
+     */
+    List<ExportResult> buildFragments(List<String> ids);
+
+    /**
+     * Export several widgets concurrently, see {@link #buildPages(List)}
+     */
+    List<ExportResult> buildWidgets(List<String> ids);
+
     String buildHtml(Page page, String context) throws GenerationException, NotFoundException;
 
     String buildHtml(Fragment fragment, String context) throws GenerationException, NotFoundException;
 
+    /**
+     * Write the html of a page to the given writer, streaming it when html normalization is disabled
+     */
+    void buildHtml(Page page, String context, Writer writer) throws IOException;
+
+    void buildHtml(Fragment fragment, String context, Writer writer) throws IOException;
+
     /**
      * Import an artifact
      *
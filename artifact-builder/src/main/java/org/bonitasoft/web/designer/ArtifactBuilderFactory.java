@@ -25,9 +25,11 @@
 import org.bonitasoft.web.angularjs.export.WidgetsExportStep;
 import org.bonitasoft.web.angularjs.rendering.DirectiveFileGenerator;
 import org.bonitasoft.web.designer.common.export.ExportStep;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
 import org.bonitasoft.web.designer.common.visitor.FragmentIdVisitor;
 import org.bonitasoft.web.designer.common.visitor.WidgetIdVisitor;
 import org.bonitasoft.web.designer.config.UiDesignerProperties;
+import org.bonitasoft.web.designer.controller.export.BatchExporter;
 import org.bonitasoft.web.designer.controller.export.FragmentExporter;
 import org.bonitasoft.web.designer.controller.export.PageExporter;
 import org.bonitasoft.web.designer.controller.export.WidgetExporter;
@@ -47,6 +49,7 @@
 import org.bonitasoft.web.designer.i18n.LanguagePackBuilder;
 import org.bonitasoft.web.designer.i18n.LanguagePackFactory;
 import org.bonitasoft.web.designer.migration.LiveRepositoryUpdate;
+import org.bonitasoft.web.designer.migration.MigrationLedger;
 import org.bonitasoft.web.designer.model.JsonHandler;
 import org.bonitasoft.web.designer.model.JsonHandlerFactory;
 import org.bonitasoft.web.designer.model.fragment.Fragment;
@@ -66,16 +69,28 @@ public class ArtifactBuilderFactory {
     private final GeneratorProperties generatorProperties;
     private final JsonHandler jsonHandler;
     private final UiDesignerCore core;
+    private Instrumentation instrumentation = Instrumentation.NONE;
 
     public ArtifactBuilderFactory(UiDesignerProperties uiDesignerProperties) {
         this.uiDesignerProperties = uiDesignerProperties;
         this.jsonHandler = new JsonHandlerFactory().create();
         this.generatorProperties = new GeneratorProperties(uiDesignerProperties.getWorkspaceUid().getPath());
         generatorProperties.setLiveBuildEnabled(uiDesignerProperties.getWorkspaceUid().isLiveBuildEnabled());
+        generatorProperties.setHtmlNormalizationEnabled(
+                uiDesignerProperties.getWorkspaceUid().isHtmlNormalizationEnabled());
         this.core = new UiDesignerCoreFactory(this.uiDesignerProperties, this.generatorProperties,
                 this.jsonHandler).create();
     }
 
+    /**
+     * Register the instrumentation receiving the timings of the generation and export phases of the artifact builders
+     * created afterwards, e.g. a {@link org.bonitasoft.web.designer.common.instrumentation.HistogramInstrumentation}
+     */
+    public ArtifactBuilderFactory withInstrumentation(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        return this;
+    }
+
     /**
      * Factory method for an instance of {@link ArtifactBuilder}
      *
@@ -88,9 +103,10 @@ public ArtifactBuilder create() {
         /**
          * Start Specific generation
          */
+        generatorProperties.setInstrumentation(instrumentation);
         var directiveFileGenerator = new DirectiveFileGenerator(
                 uiDesignerProperties.getWorkspace().getWidgets().getDir(),
-                core.getWidgetRepository(), widgetIdVisitor);
+                core.getWidgetRepository(), widgetIdVisitor, instrumentation);
 
         // In the future, we can will be able to instantiate different generator strategy depending on the configuration
 
@@ -141,6 +157,9 @@ public ArtifactBuilder create() {
         var widgetExporter = new WidgetExporter(jsonHandler, core.getWidgetService(), widgetExportSteps);
         var fragmentExporter = new FragmentExporter(jsonHandler, core.getFragmentService(), fragmentExportSteps);
         var pageExporter = new PageExporter(jsonHandler, core.getPageService(), pageExportSteps);
+        widgetExporter.setInstrumentation(instrumentation);
+        fragmentExporter.setInstrumentation(instrumentation);
+        pageExporter.setInstrumentation(instrumentation);
 
         // Dependency importers
         var widgetAssetDependencyImporter = new AssetDependencyImporter<>(core.getWidgetAssetRepository());
@@ -191,9 +210,15 @@ public ArtifactBuilder create() {
                 core.getWidgetAssetDependencyImporter(),
                 resourcesCopier,
                 List.of(
-                        new LiveRepositoryUpdate<>(core.getPageRepository(), core.getPageMigrationStepsList()),
-                        new LiveRepositoryUpdate<>(core.getFragmentRepository(), core.getFragmentMigrationStepsList()),
-                        new LiveRepositoryUpdate<>(core.getWidgetRepository(), core.getWidgetMigrationStepsList())),
+                        new LiveRepositoryUpdate<>(core.getPageRepository(), core.getPageMigrationStepsList(),
+                                new MigrationLedger(jsonHandler,
+                                        uiDesignerProperties.getWorkspace().getPages().getDir())),
+                        new LiveRepositoryUpdate<>(core.getFragmentRepository(), core.getFragmentMigrationStepsList(),
+                                new MigrationLedger(jsonHandler,
+                                        uiDesignerProperties.getWorkspace().getFragments().getDir())),
+                        new LiveRepositoryUpdate<>(core.getWidgetRepository(), core.getWidgetMigrationStepsList(),
+                                new MigrationLedger(jsonHandler,
+                                        uiDesignerProperties.getWorkspace().getWidgets().getDir()))),
                 jsonHandler);
         workspace.initialize();
 
@@ -217,6 +242,7 @@ public ArtifactBuilder create() {
                 pageExporter,
                 fragmentExporter,
                 widgetExporter,
+                new BatchExporter(uiDesignerProperties.getWorkspaceUid().getExportParallelism()),
                 generatorStrategy.getHtmlGenerator(),
                 // Import
                 new ImportStore(),
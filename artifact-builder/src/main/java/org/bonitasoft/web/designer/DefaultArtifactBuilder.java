@@ -21,15 +21,20 @@
 import static org.bonitasoft.web.designer.controller.importer.ImportPathResolver.resolveImportPath;
 import static org.bonitasoft.web.designer.controller.importer.report.ImportReport.Status.IMPORTED;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 import org.bonitasoft.web.designer.common.generator.rendering.HtmlGenerator;
+import org.bonitasoft.web.designer.controller.export.BatchExporter;
 import org.bonitasoft.web.designer.controller.export.ExportException;
+import org.bonitasoft.web.designer.controller.export.ExportResult;
 import org.bonitasoft.web.designer.controller.export.FragmentExporter;
 import org.bonitasoft.web.designer.controller.export.PageExporter;
 import org.bonitasoft.web.designer.controller.export.WidgetExporter;
@@ -67,6 +72,7 @@ public class DefaultArtifactBuilder implements ArtifactBuilder {
     private final PageExporter pageExporter;
     private final FragmentExporter fragmentExporter;
     private final WidgetExporter widgetExporter;
+    private final BatchExporter batchExporter;
     private final HtmlGenerator htmlGenerator;
     private final ImportStore importStore;
     private final PageImporter pageImporter;
@@ -81,12 +87,20 @@ public byte[] buildPage(String id) throws ModelException, ExportException, IOExc
     @Override
     public byte[] build(Page page) throws ModelException, ExportException, IOException {
         var outputStream = new ByteArrayOutputStream();
-        try (outputStream) {
-            pageExporter.handleFileExport(page.getId(), outputStream);
-        }
+        pageExporter.handleStreamingExport(page.getId(), outputStream);
         return outputStream.toByteArray();
     }
 
+    @Override
+    public void buildPage(String id, OutputStream stream) throws ModelException, ExportException, IOException {
+        pageExporter.handleStreamingExport(id, stream);
+    }
+
+    @Override
+    public void buildPage(String id, Path target) throws ModelException, ExportException, IOException {
+        export(target, stream -> buildPage(id, stream));
+    }
+
     @Override
     public byte[] buildFragment(String id) throws ModelException, ExportException, IOException {
         return build(fragmentService.get(id));
@@ -95,12 +109,20 @@ public byte[] buildFragment(String id) throws ModelException, ExportException, I
     @Override
     public byte[] build(Fragment fragment) throws ModelException, ExportException, IOException {
         var outputStream = new ByteArrayOutputStream();
-        try (outputStream) {
-            fragmentExporter.handleFileExport(fragment.getId(), outputStream);
-        }
+        fragmentExporter.handleStreamingExport(fragment.getId(), outputStream);
         return outputStream.toByteArray();
     }
 
+    @Override
+    public void buildFragment(String id, OutputStream stream) throws ModelException, ExportException, IOException {
+        fragmentExporter.handleStreamingExport(id, stream);
+    }
+
+    @Override
+    public void buildFragment(String id, Path target) throws ModelException, ExportException, IOException {
+        export(target, stream -> buildFragment(id, stream));
+    }
+
     @Override
     public byte[] buildWidget(String id) throws ModelException, ExportException, IOException {
         return build(widgetService.get(id));
@@ -109,12 +131,35 @@ public byte[] buildWidget(String id) throws ModelException, ExportException, IOE
     @Override
     public byte[] build(Widget widget) throws ModelException, ExportException, IOException {
         var outputStream = new ByteArrayOutputStream();
-        try (outputStream) {
-            widgetExporter.handleFileExport(widget.getId(), outputStream);
-        }
+        widgetExporter.handleStreamingExport(widget.getId(), outputStream);
         return outputStream.toByteArray();
     }
 
+    @Override
+    public void buildWidget(String id, OutputStream stream) throws ModelException, ExportException, IOException {
+        widgetExporter.handleStreamingExport(id, stream);
+    }
+
+    @Override
+    public void buildWidget(String id, Path target) throws ModelException, ExportException, IOException {
+        export(target, stream -> buildWidget(id, stream));
+    }
+
+    @Override
+    public List<ExportResult> buildPages(List<String> ids) {
+        return batchExporter.export(pageExporter, ids);
+    }
+
+    @Override
+    public List<ExportResult> buildFragments(List<String> ids) {
+        return batchExporter.export(fragmentExporter, ids);
+    }
+
+    @Override
+    public List<ExportResult> buildWidgets(List<String> ids) {
+        return batchExporter.export(widgetExporter, ids);
+    }
+
     @Override
     public String buildHtml(Page page, String context) throws GenerationException {
         return htmlGenerator.generateHtml(page, context);
@@ -125,6 +170,16 @@ public String buildHtml(Fragment fragment, String context) throws GenerationExce
         return htmlGenerator.generateHtml(fragment, context);
     }
 
+    @Override
+    public void buildHtml(Page page, String context, Writer writer) throws IOException {
+        htmlGenerator.generateHtml(page, context, writer);
+    }
+
+    @Override
+    public void buildHtml(Fragment fragment, String context, Writer writer) throws IOException {
+        htmlGenerator.generateHtml(fragment, context, writer);
+    }
+
     @Override
     public ImportReport importArtifact(Path path, boolean ignoreConflicts) {
 
@@ -219,6 +274,15 @@ public ArtifactStatusReport getWidgetStatus(@NonNull Widget widget) {
         return widgetService.getStatus(widget);
     }
 
+    private void export(Path target, ExportAction action) throws ModelException, ExportException, IOException {
+        try (var stream = new BufferedOutputStream(Files.newOutputStream(target))) {
+            action.exportTo(stream);
+        } catch (ModelException | IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
     protected ImportReport importFromPath(Path path, boolean ignoreConflicts, AbstractArtifactImporter<?> importer) {
         var anImport = importStore.store(importer, path);
         ImportReport report = null;
@@ -231,4 +295,10 @@ protected ImportReport importFromPath(Path path, boolean ignoreConflicts, Abstra
         }
         return report;
     }
+
+    @FunctionalInterface
+    private interface ExportAction {
+
+        void exportTo(OutputStream stream) throws ModelException, ExportException, IOException;
+    }
 }
@@ -18,6 +18,8 @@
 
 import static org.bonitasoft.web.designer.common.migration.Version.INITIAL_MODEL_VERSION;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import javax.validation.Validation;
@@ -25,16 +27,19 @@
 import org.apache.commons.io.monitor.FileAlterationMonitor;
 import org.bonitasoft.web.angularjs.GeneratorProperties;
 import org.bonitasoft.web.designer.common.livebuild.ObserverFactory;
+import org.bonitasoft.web.designer.common.livebuild.WatchServiceWatcher;
 import org.bonitasoft.web.designer.common.livebuild.Watcher;
 import org.bonitasoft.web.designer.common.repository.*;
 import org.bonitasoft.web.designer.common.visitor.AssetVisitor;
 import org.bonitasoft.web.designer.common.visitor.FragmentIdVisitor;
 import org.bonitasoft.web.designer.common.visitor.WidgetIdVisitor;
 import org.bonitasoft.web.designer.config.UiDesignerProperties;
+import org.bonitasoft.web.designer.config.WorkspaceUidProperties;
 import org.bonitasoft.web.designer.controller.asset.AssetService;
 import org.bonitasoft.web.designer.controller.importer.dependencies.AssetDependencyImporter;
 import org.bonitasoft.web.designer.migration.*;
 import org.bonitasoft.web.designer.migration.page.*;
+import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.JsonHandler;
 import org.bonitasoft.web.designer.model.fragment.Fragment;
 import org.bonitasoft.web.designer.model.page.Page;
@@ -54,6 +59,7 @@ public class UiDesignerCoreFactory {
     private final JsonHandler jsonHandler;
     private final BeanValidator beanValidator;
     private GeneratorProperties generatorProperties;
+    private DeferredWrites deferredWrites;
 
     public UiDesignerCoreFactory(UiDesignerProperties uiDesignerProperties, GeneratorProperties generatorProperties,
             JsonHandler jsonHandler) {
@@ -70,7 +76,7 @@ public UiDesignerCoreFactory(UiDesignerProperties uiDesignerProperties, Generato
      */
     public UiDesignerCore create() {
 
-        var watcher = createWatcher(createFileMonitor(false));
+        var watcher = createWatcher();
 
         // == Widget
         var widgetRepository = createWidgetRepository(watcher);
@@ -269,6 +275,33 @@ public FileAlterationMonitor createFileMonitor(boolean managed) {
         return monitor;
     }
 
+    /**
+     * Factory method for the Watcher selected by the {@link WorkspaceUidProperties#getWatcher()} property. Native file
+     * system notifications are used when requested and available, otherwise files are polled by a self managed
+     * monitor.
+     *
+     * @return
+     */
+    public Watcher createWatcher() {
+        var workspaceUid = uiDesignerProperties.getWorkspaceUid();
+        if (workspaceUid.getWatcher() == WorkspaceUidProperties.WatcherType.WATCH_SERVICE) {
+            try {
+                var watcher = new WatchServiceWatcher(workspaceUid.getWatcherDebounceDelay());
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        watcher.close();
+                    } catch (IOException e) {
+                        log.warn("Failed to cleanly stop WatchServiceWatcher on shutdown", e);
+                    }
+                }));
+                return watcher;
+            } catch (IOException | UnsupportedOperationException e) {
+                log.warn("File system notifications are not available, falling back to polling", e);
+            }
+        }
+        return createWatcher(createFileMonitor(false));
+    }
+
     /**
      * Factory method for a Watcher
      *
@@ -279,6 +312,21 @@ public Watcher createWatcher(FileAlterationMonitor monitor) {
         return new Watcher(new ObserverFactory(), monitor);
     }
 
+    /**
+     * Write behind of the repository metadata files shared by the repositories created by this factory. Pending writes
+     * are flushed and the writing thread is stopped on jvm exit via a shutdown hook.
+     *
+     * @return
+     */
+    public synchronized DeferredWrites getDeferredWrites() {
+        if (deferredWrites == null) {
+            var writes = new DeferredWrites();
+            Runtime.getRuntime().addShutdownHook(new Thread(writes::close));
+            deferredWrites = writes;
+        }
+        return deferredWrites;
+    }
+
     /**
      * Factory method for a page Asset Repository
      *
@@ -286,7 +334,10 @@ public Watcher createWatcher(FileAlterationMonitor monitor) {
      * @return
      */
     public AssetRepository<Page> createPageAssetRepository(PageRepository pageRepository) {
-        return new AssetRepository<>(pageRepository, beanValidator);
+        var hashStore = new FileHashStore(jsonHandler, uiDesignerProperties.getWorkspace().getPages().getDir(),
+                AssetRepository.ASSET_HASHES, getDeferredWrites());
+        pageRepository.getPersister().addListener(hashStore.deletionListener());
+        return new AssetRepository<>(pageRepository, beanValidator, hashStore);
     }
 
     /**
@@ -296,13 +347,15 @@ public AssetRepository<Page> createPageAssetRepository(PageRepository pageReposi
      * @return
      */
     public PageRepository createPageRepository(Watcher watcher) {
-        return new PageRepository(
-                uiDesignerProperties.getWorkspace().getPages().getDir(),
+        var uuidIndexes = new UuidIndexes(jsonHandler, getDeferredWrites());
+        var pagesDir = uiDesignerProperties.getWorkspace().getPages().getDir();
+        return withIdAllocator(withSummaryStore(withReferenceIndex(withCache(new PageRepository(
+                pagesDir,
                 generatorProperties.getTemplateResourcesPath(),
                 new JsonFileBasedPersister<>(jsonHandler, beanValidator, this.uiDesignerProperties.getVersion(),
-                        this.uiDesignerProperties.getModelVersion()),
-                new JsonFileBasedLoader<>(jsonHandler, Page.class),
-                beanValidator, watcher);
+                        this.uiDesignerProperties.getModelVersion(), uuidIndexes),
+                withLoadingParallelism(new JsonFileBasedLoader<>(jsonHandler, Page.class, uuidIndexes)),
+                beanValidator, watcher)), pagesDir), pagesDir), pagesDir);
     }
 
     /**
@@ -312,13 +365,18 @@ public PageRepository createPageRepository(Watcher watcher) {
      * @return
      */
     public FragmentRepository createFragmentRepository(Watcher watcher) {
-        return new FragmentRepository(
-                uiDesignerProperties.getWorkspace().getFragments().getDir(),
+        var fragmentsDir = uiDesignerProperties.getWorkspace().getFragments().getDir();
+        var uuidIndexes = new UuidIndexes(jsonHandler, getDeferredWrites());
+        var repository = withIdAllocator(withSummaryStore(withReferenceIndex(withCache(new FragmentRepository(
+                fragmentsDir,
                 generatorProperties.getTemplateResourcesPath(),
                 new JsonFileBasedPersister<>(jsonHandler, beanValidator, this.uiDesignerProperties.getVersion(),
-                        this.uiDesignerProperties.getModelVersion()),
-                new JsonFileBasedLoader<>(jsonHandler, Fragment.class),
-                beanValidator, watcher);
+                        this.uiDesignerProperties.getModelVersion(), uuidIndexes),
+                withLoadingParallelism(new JsonFileBasedLoader<>(jsonHandler, Fragment.class, uuidIndexes)),
+                beanValidator, watcher)), fragmentsDir), fragmentsDir), fragmentsDir);
+        repository.useHashStore(new FileHashStore(jsonHandler, fragmentsDir, FragmentRepository.DESCRIPTOR_HASHES,
+                getDeferredWrites()));
+        return repository;
     }
 
     /**
@@ -328,7 +386,10 @@ public FragmentRepository createFragmentRepository(Watcher watcher) {
      * @return
      */
     public AssetRepository<Widget> createWidgetAssetRepository(WidgetRepository widgetRepository) {
-        return new AssetRepository<>(widgetRepository, beanValidator);
+        var hashStore = new FileHashStore(jsonHandler, uiDesignerProperties.getWorkspace().getWidgets().getDir(),
+                AssetRepository.ASSET_HASHES, getDeferredWrites());
+        widgetRepository.getPersister().addListener(hashStore.deletionListener());
+        return new AssetRepository<>(widgetRepository, beanValidator, hashStore);
     }
 
     /**
@@ -338,13 +399,82 @@ public AssetRepository<Widget> createWidgetAssetRepository(WidgetRepository widg
      * @return
      */
     public WidgetRepository createWidgetRepository(Watcher watcher) {
-        return new WidgetRepository(
-                uiDesignerProperties.getWorkspace().getWidgets().getDir(),
+        var widgetsDir = uiDesignerProperties.getWorkspace().getWidgets().getDir();
+        return withSummaryStore(withCache(new WidgetRepository(
+                widgetsDir,
                 generatorProperties.getTemplateResourcesPath(),
                 new WidgetFileBasedPersister(jsonHandler, beanValidator, this.uiDesignerProperties.getVersion(),
                         this.uiDesignerProperties.getModelVersion()),
-                new WidgetFileBasedLoader(jsonHandler),
-                beanValidator, watcher);
+                withLoadingParallelism(new WidgetFileBasedLoader(jsonHandler)),
+                beanValidator, watcher)), widgetsDir);
+    }
+
+    /**
+     * Enable the artifact cache on a repository when configured
+     *
+     * @param repository
+     * @return the given repository
+     */
+    private <T extends Identifiable, R extends AbstractRepository<T>> R withCache(R repository) {
+        var cacheSize = uiDesignerProperties.getWorkspaceUid().getArtifactCacheSize();
+        if (cacheSize > 0) {
+            repository.useCache(new ArtifactCache<>(jsonHandler, cacheSize));
+        }
+        return repository;
+    }
+
+    /**
+     * Index the objects referenced by the components of a repository, to find which ones use a widget or a fragment
+     *
+     * @param repository
+     * @param directory the repository directory
+     * @return the given repository
+     */
+    private <T extends Identifiable, R extends AbstractRepository<T>> R withReferenceIndex(R repository,
+            Path directory) {
+        repository.useReferenceIndex(new ReferenceIndex<>(jsonHandler, directory, getDeferredWrites()));
+        return repository;
+    }
+
+    /**
+     * Read the descriptors of a repository concurrently when configured, the loading threads are stopped on jvm exit
+     *
+     * @param loader
+     * @return the given loader
+     */
+    private <L extends AbstractLoader<?>> L withLoadingParallelism(L loader) {
+        var parallelism = uiDesignerProperties.getWorkspaceUid().getLoadingParallelism();
+        loader.setParallelism(parallelism);
+        if (parallelism > 1) {
+            Runtime.getRuntime().addShutdownHook(new Thread(loader::close));
+        }
+        return loader;
+    }
+
+    /**
+     * Keep the summaries of the components of a repository, to list them without loading the full models
+     *
+     * @param repository
+     * @param directory the repository directory
+     * @return the given repository
+     */
+    private <T extends Identifiable, R extends AbstractRepository<T>> R withSummaryStore(R repository,
+            Path directory) {
+        repository.useSummaryStore(new SummaryStore<>(jsonHandler, directory, repository.getComponentName()));
+        return repository;
+    }
+
+    /**
+     * Allocate the ids of the new components of a repository from the ids kept in memory
+     *
+     * @param repository
+     * @param directory the repository directory
+     * @return the given repository
+     */
+    private <T extends Identifiable, R extends AbstractRepository<T>> R withIdAllocator(R repository,
+            Path directory) {
+        repository.useIdAllocator(new IdAllocator<>(directory));
+        return repository;
     }
 
 }
@@ -24,6 +24,12 @@ public class UiDesignerPropertiesBuilder {
 
     private boolean experimental = false;
     private boolean liveBuildEnabled = true;
+    private boolean htmlNormalizationEnabled = true;
+    private int artifactCacheSize = 0;
+    private int exportParallelism = Runtime.getRuntime().availableProcessors();
+    private int initializationParallelism = 1;
+    private int loadingParallelism = 1;
+    private WorkspaceUidProperties.WatcherType watcher = WorkspaceUidProperties.WatcherType.POLLING;
 
     private final UiDesignerProperties.BonitaProperties bonita = new UiDesignerProperties.BonitaProperties();
     private final WorkspaceProperties workspace = new WorkspaceProperties();
@@ -43,6 +49,36 @@ public UiDesignerPropertiesBuilder disableLiveBuild() {
         return this;
     }
 
+    public UiDesignerPropertiesBuilder disableHtmlNormalization() {
+        this.htmlNormalizationEnabled = false;
+        return this;
+    }
+
+    public UiDesignerPropertiesBuilder artifactCacheSize(int artifactCacheSize) {
+        this.artifactCacheSize = artifactCacheSize;
+        return this;
+    }
+
+    public UiDesignerPropertiesBuilder exportParallelism(int exportParallelism) {
+        this.exportParallelism = exportParallelism;
+        return this;
+    }
+
+    public UiDesignerPropertiesBuilder initializationParallelism(int initializationParallelism) {
+        this.initializationParallelism = initializationParallelism;
+        return this;
+    }
+
+    public UiDesignerPropertiesBuilder loadingParallelism(int loadingParallelism) {
+        this.loadingParallelism = loadingParallelism;
+        return this;
+    }
+
+    public UiDesignerPropertiesBuilder watcher(WorkspaceUidProperties.WatcherType watcher) {
+        this.watcher = watcher;
+        return this;
+    }
+
     public UiDesignerPropertiesBuilder portal(String url, String user, String password) {
         this.bonita.getPortal().setUrl(url);
         this.bonita.getPortal().setUser(user);
@@ -95,6 +131,12 @@ public UiDesignerProperties build() {
         properties.setExperimental(experimental);
         properties.setBonita(bonita);
         workspaceUid.setLiveBuildEnabled(liveBuildEnabled);
+        workspaceUid.setHtmlNormalizationEnabled(htmlNormalizationEnabled);
+        workspaceUid.setArtifactCacheSize(artifactCacheSize);
+        workspaceUid.setExportParallelism(exportParallelism);
+        workspaceUid.setInitializationParallelism(initializationParallelism);
+        workspaceUid.setLoadingParallelism(loadingParallelism);
+        workspaceUid.setWatcher(watcher);
         properties.setWorkspaceUid(workspaceUid);
         properties.setWorkspace(workspace);
 
@@ -31,6 +31,43 @@ public class WorkspaceUidProperties {
 
     private boolean liveBuildEnabled = true;
 
+    /**
+     * Whether generated html is parsed and serialized again to be normalized. When disabled, preview and export
+     * stream the html of pages without building it in memory.
+     */
+    private boolean htmlNormalizationEnabled = true;
+
+    /**
+     * Maximum number of parsed artifacts kept in memory by each repository. Cache is disabled when 0.
+     */
+    private int artifactCacheSize = 0;
+
+    /**
+     * Maximum number of artifacts exported at the same time by batch exports
+     */
+    private int exportParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of threads used to migrate and build the artifacts of the workspace. Initialization is sequential when 1.
+     */
+    private int initializationParallelism = 1;
+
+    /**
+     * Number of threads used by each repository to read the descriptors of its artifacts when listing them. Artifacts
+     * are read sequentially when 1.
+     */
+    private int loadingParallelism = 1;
+
+    /**
+     * How workspace files are watched for live build and cache invalidation
+     */
+    private WatcherType watcher = WatcherType.POLLING;
+
+    /**
+     * Delay in milliseconds during which file events are coalesced by the {@link WatcherType#WATCH_SERVICE} watcher
+     */
+    private long watcherDebounceDelay = 100;
+
     private Path path = Path.of(System.getProperty("java.io.tmpdir")).resolve("workspace-uid");
 
     public Path getTmpFragmentsRepositoryPath() {
@@ -45,4 +82,11 @@ public Path getExtractPath() {
         return path.resolve("extract");
     }
 
+    public enum WatcherType {
+        /** Periodically scan watched directories. Works on every file system. */
+        POLLING,
+        /** Rely on native file system notifications, falling back to polling when they are not available */
+        WATCH_SERVICE
+    }
+
 }
@@ -0,0 +1,96 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.controller.export;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Export several artifacts concurrently, on a pool of at most <code>parallelism</code> threads created for each batch.
+ * <p>
+ * Exports of a batch share what exporters already share between calls: the repositories, with their artifact cache
+ * when enabled, and the minified widget directives bundles.
+ */
+public class BatchExporter {
+
+    private final int parallelism;
+
+    public BatchExporter(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Export parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Export the artifacts with the given ids. Results are returned in the order of the ids, and a failing export does
+     * not prevent the other ones.
+     */
+    public List<ExportResult> export(Exporter<?> exporter, List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, ids.size()),
+                threadFactory(exporter.getComponentType()));
+        try {
+            var futures = ids.stream()
+                    .map(id -> executor.submit(() -> export(exporter, id)))
+                    .collect(toList());
+            List<ExportResult> results = new ArrayList<>();
+            for (var future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExportException(format("Export of %ss has been interrupted", exporter.getComponentType()), e);
+        } catch (ExecutionException e) {
+            // export never throws, errors are reported in results
+            throw new ExportException(format("Technical error when exporting %ss", exporter.getComponentType()),
+                    e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExportResult export(Exporter<?> exporter, String id) {
+        try {
+            var outputStream = new ByteArrayOutputStream();
+            exporter.handleStreamingExport(id, outputStream);
+            return ExportResult.success(id, outputStream.toByteArray());
+        } catch (Exception e) {
+            return ExportResult.failure(id, e);
+        }
+    }
+
+    private ThreadFactory threadFactory(String componentType) {
+        var count = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, componentType + "-export-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,45 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.controller.export;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outcome of the export of one artifact of a batch: either the zip content or the error which prevented to build it
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExportResult {
+
+    private final String id;
+    private final byte[] content;
+    private final Exception error;
+
+    public static ExportResult success(String id, byte[] content) {
+        return new ExportResult(id, content, null);
+    }
+
+    public static ExportResult failure(String id, Exception error) {
+        return new ExportResult(id, null, error);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
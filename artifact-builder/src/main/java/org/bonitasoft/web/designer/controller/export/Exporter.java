@@ -17,17 +17,18 @@
 package org.bonitasoft.web.designer.controller.export;
 
 import static java.lang.String.format;
-import static org.apache.commons.io.IOUtils.copy;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.bonitasoft.web.designer.common.export.ExportStep.RESOURCES;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.bonitasoft.web.designer.common.export.ExportStep;
 import org.bonitasoft.web.designer.common.export.Zipper;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
 import org.bonitasoft.web.designer.model.DesignerArtifact;
 import org.bonitasoft.web.designer.model.JsonHandler;
 import org.bonitasoft.web.designer.model.JsonViewPersistence;
@@ -43,6 +44,8 @@
 
     protected JsonHandler jsonHandler;
 
+    private Instrumentation instrumentation = Instrumentation.NONE;
+
     @SafeVarargs
     protected Exporter(JsonHandler jsonHandler, ArtifactService<T> artifactService, ExportStep<T>... exportSteps) {
         this.jsonHandler = jsonHandler;
@@ -52,22 +55,50 @@ protected Exporter(JsonHandler jsonHandler, ArtifactService<T> artifactService,
 
     protected abstract String getComponentType();
 
+    /**
+     * Instrumentation receiving the timings of the artifact loading and of each export step
+     */
+    public void setInstrumentation(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
     public void handleFileExport(String id, OutputStream stream) throws ModelException, ExportException, IOException {
-        if (isBlank(id)) {
-            throw new IllegalArgumentException("Id is needed to successfully export a component");
-        }
+        var identifiable = prepare(id);
 
         //We can't write directly in response outputstream. When you start to write a message, you can't remove it after the first flush.
         // If an error occurs you can't prevent a partial file loading. So we need to use a temp stream.
-        ByteArrayOutputStream zipStream;
-        //In the first step the zipStream is created
-        try (var outputStream = new ByteArrayOutputStream(); Zipper zipper = new Zipper(outputStream)) {
-            //The outputStream scope is local in the try-with-resource-block
-            zipStream = outputStream;
+        var zipStream = new ByteArrayOutputStream();
+        writeZip(id, identifiable, zipStream);
+
+        //Copy work/zip stream content to response stream (the zip has to be closed before to be able to read it)
+        try {
+            zipStream.writeTo(stream);
+        } catch (Exception e) {
+            throw new ExportException(format("Technical error when exporting %s with id %s", getComponentType(), id),
+                    e);
+        }
+    }
 
+    /**
+     * Export a component by writing the zip directly in the given stream, which is left open. The component is loaded
+     * and checked before anything is written, but an error in an export step leaves a partial zip in the stream.
+     */
+    public void handleStreamingExport(String id, OutputStream stream) throws ModelException, ExportException {
+        writeZip(id, prepare(id), CloseShieldOutputStream.wrap(stream));
+    }
+
+    private T prepare(String id) throws ModelException, ExportException {
+        if (isBlank(id)) {
+            throw new IllegalArgumentException("Id is needed to successfully export a component");
+        }
+        try {
+            var load = instrumentation.start(Instrumentation.ARTIFACT_LOAD);
             var identifiable = artifactService.get(id);
+            load.stop();
             if (identifiable.getStatus() == null) {
+                var statusCheck = instrumentation.start(Instrumentation.STATUS_CHECK);
                 identifiable.setStatus(artifactService.getStatus(identifiable));
+                statusCheck.stop();
             }
 
             if (!identifiable.getStatus().isCompatible()) {
@@ -78,26 +109,35 @@ public void handleFileExport(String id, OutputStream stream) throws ModelExcepti
             if (identifiable instanceof Widget) {
                 ((Widget) identifiable).prepareWidgetToSerialize();
             }
-
-            final byte[] json = jsonHandler.toJson(identifiable, JsonViewPersistence.class);
-            zipper.addToZip(json, format("%s/%s.json", RESOURCES, getComponentType()));
-            // forceExecution export steps
-            for (ExportStep<T> exporter : exportSteps) {
-                exporter.execute(zipper, identifiable);
-            }
-
+            return identifiable;
         } catch (ModelException e) {
             throw e;
         } catch (Exception e) {
             throw new ExportException(format("Technical error on zip creation %s with id %s", getComponentType(), id),
                     e);
         }
+    }
 
-        //Copy work/zip stream content to response stream (we can't do that in the first block, because the zip has to be closed before to be able to read it)
-        try (var inputStream = new ByteArrayInputStream(zipStream.toByteArray())) {
-            copy(inputStream, stream);
+    private void writeZip(String id, T identifiable, OutputStream stream) throws ExportException {
+        try {
+            // bytes of a step are the compressed bytes written in the stream while it is executed
+            var zipStream = new CountingOutputStream(stream);
+            Instrumentation.Timer finish;
+            try (var zipper = new Zipper(zipStream)) {
+                zipper.addToZip(out -> jsonHandler.toJson(identifiable, JsonViewPersistence.class, out),
+                        format("%s/%s.json", RESOURCES, getComponentType()));
+                // forceExecution export steps
+                for (ExportStep<T> exporter : exportSteps) {
+                    var written = zipStream.getByteCount();
+                    var step = instrumentation.start(Instrumentation.EXPORT_STEP + exporter.getClass().getSimpleName());
+                    exporter.execute(zipper, identifiable);
+                    step.stop(zipStream.getByteCount() - written);
+                }
+                finish = instrumentation.start(Instrumentation.ZIP_FINISH);
+            }
+            finish.stop(zipStream.getByteCount());
         } catch (Exception e) {
-            throw new ExportException(format("Technical error when exporting %s with id %s", getComponentType(), id),
+            throw new ExportException(format("Technical error on zip creation %s with id %s", getComponentType(), id),
                     e);
         }
     }
@@ -143,7 +143,12 @@ private void saveComponent(Path resources, T element, Map<DependencyImporter, Li
             String newId = repository.getNextAvailableId(element.getName());
             ((HasUUID) element).setId(newId);
         }
-        saveArtefactDependencies(resources, dependencies);
+        try {
+            saveArtefactDependencies(resources, dependencies);
+        } catch (RuntimeException e) {
+            repository.releaseId(element.getId());
+            throw e;
+        }
         var savedElement = repository.updateLastUpdateAndSave(element);
         artifactService.migrate(savedElement);
 
@@ -17,6 +17,7 @@
 package org.bonitasoft.web.designer.migration;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.contains;
 
 import java.io.File;
@@ -25,9 +26,13 @@
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.lang3.StringUtils;
+import org.bonitasoft.web.designer.common.livebuild.ParallelTasks;
+import org.bonitasoft.web.designer.common.repository.AbstractRepository;
 import org.bonitasoft.web.designer.common.repository.RefreshingRepository;
 import org.bonitasoft.web.designer.common.repository.Repository;
 import org.bonitasoft.web.designer.common.repository.WidgetRepository;
@@ -37,45 +42,109 @@
 
     private final Repository<A> repository;
     private final List<Migration<A>> migrationList;
+    private final MigrationLedger ledger;
 
     public LiveRepositoryUpdate(Repository<A> repository, List<Migration<A>> migrationList) {
+        this(repository, migrationList, null);
+    }
+
+    /**
+     * @param ledger used to skip artifacts which did not change since they have been migrated, may be null to always
+     *        read every artifact
+     */
+    public LiveRepositoryUpdate(Repository<A> repository, List<Migration<A>> migrationList, MigrationLedger ledger) {
         this.repository = repository;
         this.migrationList = migrationList;
+        this.ledger = ledger;
     }
 
     public void start() throws IOException {
+        start(null);
+    }
 
-        repository.walk(new SimpleFileVisitor<>() {
-
-            @Override
-            public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
-                refresh(repository, path.toFile().toPath());
-                return CONTINUE;
-            }
-        });
+    /**
+     * Refresh every artifact of the repository, concurrently on the given pool if any, then watch for changes.
+     *
+     * @param pool may be null for a sequential refresh
+     */
+    public void start(ForkJoinPool pool) throws IOException {
+        ParallelTasks.forEach(pool, collectDescriptors(), path -> refresh(repository, path));
 
         repository.watch(path -> refresh(repository, path));
     }
 
     public void migrate() throws IOException {
+        migrate(null);
+    }
+
+    /**
+     * Apply the migrations to every artifact of the repository, concurrently on the given pool if any.
+     *
+     * @param pool may be null for a sequential migration
+     */
+    public void migrate(ForkJoinPool pool) throws IOException {
+        var descriptors = collectDescriptors();
+        ParallelTasks.forEach(pool, descriptors, this::migrateIfNeeded);
+        if (ledger != null) {
+            ledger.retainAll(descriptors.stream().map(this::artifactId).collect(toList()));
+            ledger.store();
+        }
+    }
+
+    private void migrateIfNeeded(Path path) {
+        var id = artifactId(path);
+        if (ledger != null && isUpToDate(ledger.getVersion(id, path))) {
+            return;
+        }
+        final var artifact = repository.get(path);
+        String formerArtifactVersion = artifact.getArtifactVersion();
+        for (Migration<A> migration : migrationList) {
+            migration.migrate(artifact);
+        }
+        if (!StringUtils.equals(formerArtifactVersion, artifact.getArtifactVersion())) {
+            artifact.setPreviousArtifactVersion(formerArtifactVersion);
+            repository.updateLastUpdateAndSave(artifact);
+        }
+        if (ledger != null) {
+            ledger.record(id, artifact.getArtifactVersion(), path);
+        }
+    }
+
+    private boolean isUpToDate(String artifactVersion) {
+        return artifactVersion != null
+                && migrationList.stream().noneMatch(migration -> migration.isRequired(artifactVersion));
+    }
+
+    private String artifactId(Path descriptor) {
+        return StringUtils.removeEnd(descriptor.getFileName().toString(), ".json");
+    }
+
+    public String getComponentName() {
+        return repository.getComponentName();
+    }
+
+    private List<Path> collectDescriptors() throws IOException {
+        List<Path> descriptors = new ArrayList<>();
         repository.walk(new SimpleFileVisitor<>() {
 
             @Override
             public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
                 if (isArtifactDescriptor(path)) {
-                    final var artifact = repository.get(path);
-                    String formerArtifactVersion = artifact.getArtifactVersion();
-                    for (Migration<A> migration : migrationList) {
-                        migration.migrate(artifact);
-                    }
-                    if (!StringUtils.equals(formerArtifactVersion, artifact.getArtifactVersion())) {
-                        artifact.setPreviousArtifactVersion(formerArtifactVersion);
-                        repository.updateLastUpdateAndSave(artifact);
-                    }
+                    descriptors.add(path);
                 }
                 return CONTINUE;
             }
         });
+        return descriptors;
+    }
+
+    /**
+     * Rebuild the index of the objects referenced by the repository artifacts
+     */
+    public void refreshReferences() {
+        if (repository instanceof AbstractRepository) {
+            ((AbstractRepository<A>) repository).refreshReferences();
+        }
     }
 
     private void refresh(Repository<A> repository, Path path) {
@@ -93,6 +162,11 @@ private boolean isArtifactDescriptor(Path path) {
 
     @Override
     public int compareTo(LiveRepositoryUpdate o) {
-        return repository instanceof WidgetRepository ? -1 : 1;
+        // widgets first, other repositories keep their relative order
+        return Boolean.compare(!isWidgetRepository(), !o.isWidgetRepository());
+    }
+
+    private boolean isWidgetRepository() {
+        return repository instanceof WidgetRepository;
     }
 }
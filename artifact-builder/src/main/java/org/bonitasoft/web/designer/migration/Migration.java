@@ -51,7 +51,7 @@ public List<MigrationStepReport> migrate(A artifact) {
         var msr = new ArrayList<MigrationStepReport>();
 
         var artifactVersion = artifact.getArtifactVersion();
-        if (artifactVersion == null || newArtifactVersion.isGreaterThan(artifactVersion)) {
+        if (isRequired(artifactVersion)) {
             logger.info(
                     "[MIGRATION] {} <{}> with id <{}> is being migrated from version <{}> to <{}>...",
                     artifact.getClass().getSimpleName(),
@@ -84,6 +84,13 @@ public List<MigrationStepReport> migrate(A artifact) {
         return msr;
     }
 
+    /**
+     * @return true when an artifact with the given artifact version has to be migrated by this migration
+     */
+    public boolean isRequired(String artifactVersion) {
+        return artifactVersion == null || newArtifactVersion.isGreaterThan(artifactVersion);
+    }
+
     private String getDisplayVersion(String artifactVersion) {
         if (artifactVersion == null) {
             return "null";
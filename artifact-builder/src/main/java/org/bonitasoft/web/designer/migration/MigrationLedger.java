@@ -0,0 +1,178 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.migration;
+
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.web.designer.common.repository.PageRepository;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remember, for each artifact of a repository, the artifact version reached after the last migration together with
+ * the hash of its descriptor. An artifact whose descriptor did not change since then does not need to be read again to
+ * know whether it has to be migrated.
+ * <p>
+ * The ledger is stored in the repository metadata folder. The descriptor size and last modification time are kept as
+ * well so that unchanged descriptors are recognized without being read.
+ */
+public class MigrationLedger {
+
+    public static final String MIGRATIONS_METADATA = ".migrations";
+    private static final Logger logger = LoggerFactory.getLogger(MigrationLedger.class);
+
+    private final JsonHandler jsonHandler;
+    private final Path ledgerPath;
+
+    private Map<String, Entry> entries;
+    private volatile boolean dirty;
+
+    public MigrationLedger(JsonHandler jsonHandler, Path directory) {
+        this.jsonHandler = jsonHandler;
+        this.ledgerPath = directory.resolve(PageRepository.METADATA).resolve(MIGRATIONS_METADATA + ".json");
+    }
+
+    /**
+     * @return the artifact version recorded for the given artifact if its descriptor did not change since then, null
+     *         otherwise
+     */
+    public String getVersion(String id, Path descriptor) {
+        var entry = getEntries().get(id);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            var attributes = Files.readAttributes(descriptor, BasicFileAttributes.class);
+            if (entry.size == attributes.size() && entry.lastModified == attributes.lastModifiedTime().toMillis()) {
+                return entry.version;
+            }
+            if (DigestUtils.sha1Hex(readAllBytes(descriptor)).equals(entry.hash)) {
+                // descriptor has been touched without being modified
+                entries.put(id, new Entry(entry.version, entry.hash, attributes.size(),
+                        attributes.lastModifiedTime().toMillis()));
+                dirty = true;
+                return entry.version;
+            }
+        } catch (IOException e) {
+            logger.debug("Cannot check descriptor [{}], it will be migrated again.", descriptor, e);
+        }
+        return null;
+    }
+
+    /**
+     * Record the artifact version of an artifact along with the current content of its descriptor
+     */
+    public void record(String id, String version, Path descriptor) {
+        try {
+            var attributes = Files.readAttributes(descriptor, BasicFileAttributes.class);
+            getEntries().put(id, new Entry(version, DigestUtils.sha1Hex(readAllBytes(descriptor)), attributes.size(),
+                    attributes.lastModifiedTime().toMillis()));
+        } catch (IOException e) {
+            logger.debug("Cannot record descriptor [{}], it will be migrated again.", descriptor, e);
+            getEntries().remove(id);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Forget artifacts which are not part of the given ones anymore
+     */
+    public void retainAll(Collection<String> ids) {
+        if (getEntries().keySet().retainAll(new HashSet<>(ids))) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Write the ledger if it changed since it has been loaded
+     */
+    public synchronized void store() {
+        if (!dirty) {
+            return;
+        }
+        Map<String, Object> content = new TreeMap<>();
+        getEntries().forEach((id, entry) -> content.put(id, entry.toMap()));
+        try {
+            FileUtils.forceMkdir(ledgerPath.getParent().toFile());
+            write(ledgerPath, jsonHandler.toJson(content));
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn("Cannot write migration ledger [{}], artifacts will be migrated again.", ledgerPath, e);
+        }
+    }
+
+    private synchronized Map<String, Entry> getEntries() {
+        if (entries == null) {
+            entries = new ConcurrentHashMap<>();
+            if (exists(ledgerPath)) {
+                try {
+                    jsonHandler.fromJsonToComplexMap(readAllBytes(ledgerPath))
+                            .forEach((id, entry) -> entries.put(id, Entry.fromMap((Map<?, ?>) entry)));
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Cannot read migration ledger [{}], all artifacts will be migrated again.", ledgerPath);
+                    entries.clear();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static class Entry {
+
+        private final String version;
+        private final String hash;
+        private final long size;
+        private final long lastModified;
+
+        private Entry(String version, String hash, long size, long lastModified) {
+            this.version = version;
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        private static Entry fromMap(Map<?, ?> map) {
+            return new Entry((String) map.get("version"), (String) map.get("hash"),
+                    ((Number) map.get("size")).longValue(), ((Number) map.get("lastModified")).longValue());
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("version", version);
+            map.put("hash", hash);
+            map.put("size", size);
+            map.put("lastModified", lastModified);
+            return map;
+        }
+    }
+}
@@ -16,10 +16,18 @@
  */
 package org.bonitasoft.web.designer.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.bonitasoft.web.designer.common.migration.Version;
 import org.bonitasoft.web.designer.common.repository.Repository;
 import org.bonitasoft.web.designer.config.UiDesignerProperties;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.Identifiable;
 
 public abstract class AbstractArtifactService<R extends Repository<T>, T extends Identifiable>
@@ -48,8 +56,11 @@ public ArtifactStatusReport getStatus(T artifact) {
     }
 
     private ArtifactStatusReport getArtifactStatus(T artifact) {
+        return getArtifactStatus(artifact.getArtifactVersion());
+    }
+
+    private ArtifactStatusReport getArtifactStatus(String artifactVersion) {
         // Check status of this artifact
-        var artifactVersion = artifact.getArtifactVersion();
         if (artifactVersion == null) {
             return new ArtifactStatusReport(true, true);
         }
@@ -80,4 +91,46 @@ public ArtifactStatusReport getStatusWithoutDependencies(T artifact) {
         return getArtifactStatus(artifact);
     }
 
+    /**
+     * Return status of a summarized artifact without checking dependencies
+     *
+     * @return ArtifactStatusReport
+     */
+    protected ArtifactStatusReport getStatusWithoutDependencies(ArtifactSummary summary) {
+        return getArtifactStatus(summary.getArtifactVersion());
+    }
+
+    /**
+     * Merge the status of the artifacts referenced by the given summary, the same way dependencies are checked
+     * on fully loaded artifacts.
+     *
+     * @param summary summary holding the referenced ids
+     * @param statusOf status lookup, returning null for ids which are not dependencies
+     * @return ArtifactStatusReport
+     */
+    protected ArtifactStatusReport getDependenciesStatus(ArtifactSummary summary,
+            Function<String, ArtifactStatusReport> statusOf) {
+        return getDependenciesStatus(summary.getReferences().stream()
+                .map(statusOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    protected ArtifactStatusReport getDependenciesStatus(Collection<ArtifactStatusReport> reports) {
+        var migration = false;
+        for (var report : reports) {
+            if (!report.isCompatible()) {
+                return report;
+            }
+            if (!migration && report.isMigration()) {
+                migration = true;
+            }
+        }
+        return new ArtifactStatusReport(true, migration);
+    }
+
+    protected static Map<String, ArtifactSummary> byId(List<ArtifactSummary> summaries) {
+        return summaries.stream().collect(Collectors.toMap(ArtifactSummary::getId, Function.identity()));
+    }
+
 }
@@ -25,6 +25,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,6 +42,7 @@
 import org.bonitasoft.web.designer.controller.Predicates;
 import org.bonitasoft.web.designer.controller.asset.PageAssetPredicate;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.ModelException;
 import org.bonitasoft.web.designer.model.asset.Asset;
@@ -130,6 +132,41 @@ public MigrationResult<Fragment> migrateWithReport(Fragment fragment) {
         return migrate(fragment, true);
     }
 
+    @Override
+    public List<ArtifactSummary> getSummaries() {
+        var widgets = byId(fragmentMigrationApplyer.getWidgetSummaries());
+        var summaries = repository.getSummaries();
+        var fragments = byId(summaries);
+        Map<String, ArtifactStatusReport> statuses = new HashMap<>();
+        summaries.forEach(summary -> summary.setStatus(getSummaryStatus(summary, widgets, fragments, statuses)));
+        return summaries;
+    }
+
+    /**
+     * Compute the status of a fragment summary from the summaries of the widgets and fragments it references.
+     * Statuses are memoized in the given map, which also guards against fragments embedding each other.
+     */
+    private ArtifactStatusReport getSummaryStatus(ArtifactSummary summary, Map<String, ArtifactSummary> widgets,
+            Map<String, ArtifactSummary> fragments, Map<String, ArtifactStatusReport> statuses) {
+        var status = statuses.get(summary.getId());
+        if (status != null) {
+            return status;
+        }
+        var ownStatus = getStatusWithoutDependencies(summary);
+        statuses.put(summary.getId(), ownStatus);
+        var widgetStatus = getDependenciesStatus(summary, id -> {
+            var widget = widgets.get(id);
+            return widget == null ? null : widget.getStatus();
+        });
+        var fragmentStatus = getDependenciesStatus(summary, id -> {
+            var fragment = fragments.get(id);
+            return fragment == null ? null : getSummaryStatus(fragment, widgets, fragments, statuses);
+        });
+        status = mergeStatusReport(ownStatus, mergeStatusReport(widgetStatus, fragmentStatus));
+        statuses.put(summary.getId(), status);
+        return status;
+    }
+
     @Override
     public ArtifactStatusReport getStatus(Fragment fragment) {
         var fragmentStatusReport = super.getStatus(fragment);
@@ -193,16 +230,21 @@ public Fragment rename(Fragment fragment, String name) throws ModelException {
         var fragmentId = fragment.getId();
         var newFragmentId = repository.getNextAvailableId(name);
 
-        updateReferencesParentArtifacts(fragment, newFragmentId, fragment.getHasValidationError());
-
-        fragment.setId(newFragmentId);
-        fragment.setName(name);
-
-        checkNameIsUnique(
-                // make sure we don't check against the fragment itself
-                repository.getAll().stream().filter(Predicates.propertyEqualTo("id", fragmentId).negate())
-                        .collect(toList()),
-                fragment);
+        try {
+            updateReferencesParentArtifacts(fragment, newFragmentId, fragment.getHasValidationError());
+
+            fragment.setId(newFragmentId);
+            fragment.setName(name);
+
+            checkNameIsUnique(
+                    // make sure we don't check against the fragment itself
+                    repository.getAll().stream().filter(Predicates.propertyEqualTo("id", fragmentId).negate())
+                            .collect(toList()),
+                    fragment);
+        } catch (RuntimeException e) {
+            repository.releaseId(newFragmentId);
+            throw e;
+        }
 
         var savedFragment = repository.updateLastUpdateAndSave(fragment);
         repository.delete(fragmentId);
@@ -241,7 +283,13 @@ public Fragment save(String fragmentId, Fragment fragment) throws ModelException
                 } else {
                     newFragmentId = fragmentId;
                 }
-                updateReferencesParentArtifacts(currentFragment, newFragmentId, fragment.getHasValidationError());
+                try {
+                    updateReferencesParentArtifacts(currentFragment, newFragmentId,
+                            fragment.getHasValidationError());
+                } catch (RuntimeException e) {
+                    repository.releaseId(newFragmentId);
+                    throw e;
+                }
             } else {
                 newFragmentId = fragmentId;
             }
@@ -30,6 +30,7 @@
 import org.bonitasoft.web.designer.controller.asset.AssetService;
 import org.bonitasoft.web.designer.controller.asset.PageAssetPredicate;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.asset.Asset;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationResult;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationStatus;
@@ -221,6 +222,24 @@ public MigrationResult<Page> migrateWithReport(Page pageToMigrate) {
         return migratedResult;
     }
 
+    @Override
+    public List<ArtifactSummary> getSummaries() {
+        var widgets = byId(pageMigrationApplyer.getWidgetSummaries());
+        var fragments = byId(pageMigrationApplyer.getFragmentSummaries());
+        var summaries = repository.getSummaries();
+        for (var summary : summaries) {
+            var widgetStatus = getDependenciesStatus(summary, id -> statusOf(widgets.get(id)));
+            var fragmentStatus = getDependenciesStatus(summary, id -> statusOf(fragments.get(id)));
+            summary.setStatus(mergeStatusReport(getStatusWithoutDependencies(summary),
+                    mergeStatusReport(widgetStatus, fragmentStatus)));
+        }
+        return summaries;
+    }
+
+    private static ArtifactStatusReport statusOf(ArtifactSummary summary) {
+        return summary == null ? null : summary.getStatus();
+    }
+
     @Override
     public ArtifactStatusReport getStatus(Page page) {
 
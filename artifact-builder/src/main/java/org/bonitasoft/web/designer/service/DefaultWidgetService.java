@@ -35,6 +35,7 @@
 import org.bonitasoft.web.designer.config.UiDesignerProperties;
 import org.bonitasoft.web.designer.controller.asset.AssetService;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationResult;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationStatus;
@@ -157,6 +158,13 @@ public List<Widget> getAll() {
                 }).collect(toList());
     }
 
+    @Override
+    public List<ArtifactSummary> getSummaries() {
+        var summaries = repository.getSummaries();
+        summaries.forEach(summary -> summary.setStatus(getStatusWithoutDependencies(summary)));
+        return summaries;
+    }
+
     @Override
     public List<Widget> getAllWithUsedBy() {
         List<Widget> widgets = getAll();
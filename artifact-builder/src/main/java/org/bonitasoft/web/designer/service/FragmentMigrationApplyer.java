@@ -24,6 +24,7 @@
 import org.apache.commons.lang3.StringUtils;
 import org.bonitasoft.web.designer.migration.Migration;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.fragment.Fragment;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationResult;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationStepReport;
@@ -67,6 +68,10 @@ public ArtifactStatusReport getMigrationStatusOfCustomWidgetsUsed(Fragment fragm
         return widgetService.getArtifactStatusOfCustomWidgetUsed(fragment);
     }
 
+    public List<ArtifactSummary> getWidgetSummaries() {
+        return widgetService.getSummaries();
+    }
+
     private List<MigrationStepReport> migrateAllCustomWidgetUsed(Fragment fragment) {
         return widgetService.migrateAllCustomWidgetUsedInPreviewable(fragment);
     }
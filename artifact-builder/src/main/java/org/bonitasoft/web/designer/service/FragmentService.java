@@ -20,6 +20,7 @@
 import java.util.Set;
 
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.ModelException;
 import org.bonitasoft.web.designer.model.asset.Asset;
 import org.bonitasoft.web.designer.model.fragment.Fragment;
@@ -38,6 +39,13 @@ public interface FragmentService extends ArtifactService<Fragment> {
      */
     List<Fragment> getAllNotUsingFragment(String elementId);
 
+    /**
+     * List the fragments as summaries, read from their descriptors without building the full model.
+     *
+     * @return a list of {@link ArtifactSummary} with their status set
+     */
+    List<ArtifactSummary> getSummaries();
+
     /**
      * Migrate a fragment. Most of the time, we would not migrate the fragments and the widgets used in the current
      * fragment. (As this is done at the page level, so 'migrateChildren' will be false)
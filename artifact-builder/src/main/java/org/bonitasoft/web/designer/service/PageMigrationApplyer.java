@@ -24,6 +24,7 @@
 import org.apache.commons.lang3.StringUtils;
 import org.bonitasoft.web.designer.migration.Migration;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationResult;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationStepReport;
 import org.bonitasoft.web.designer.model.page.Page;
@@ -71,6 +72,14 @@ public ArtifactStatusReport getPageStatusDependencies(Page page) {
         return new ArtifactStatusReport(true, false);
     }
 
+    public List<ArtifactSummary> getWidgetSummaries() {
+        return widgetService.getSummaries();
+    }
+
+    public List<ArtifactSummary> getFragmentSummaries() {
+        return fragmentService.getSummaries();
+    }
+
     protected void updatePreviousArtifactVersionIfMigrationDone(Page page, String formerArtifactVersion,
             Instant startTime) {
         if (!StringUtils.equals(formerArtifactVersion, page.getArtifactVersion())) {
@@ -19,6 +19,7 @@
 import java.util.List;
 import java.util.Set;
 
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.asset.Asset;
 import org.bonitasoft.web.designer.model.page.Page;
 import org.bonitasoft.web.designer.model.page.WebResource;
@@ -27,6 +28,13 @@ public interface PageService extends AssetableArtifactService<Page> {
 
     List<Page> getAll();
 
+    /**
+     * List the pages as summaries, read from their descriptors without building the full model.
+     *
+     * @return a list of {@link ArtifactSummary} with their status set
+     */
+    List<ArtifactSummary> getSummaries();
+
     Page create(Page page);
 
     Page createFrom(String sourcePageId, Page page);
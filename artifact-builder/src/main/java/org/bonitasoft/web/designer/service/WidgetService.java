@@ -19,6 +19,7 @@
 import java.util.List;
 
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.migrationReport.MigrationStepReport;
 import org.bonitasoft.web.designer.model.page.Previewable;
 import org.bonitasoft.web.designer.model.widget.Property;
@@ -44,6 +45,13 @@ public interface WidgetService extends AssetableArtifactService<Widget> {
 
     List<Widget> getAll();
 
+    /**
+     * List the widgets as summaries, read from their descriptors without building the full model.
+     *
+     * @return a list of {@link ArtifactSummary} with their status set
+     */
+    List<ArtifactSummary> getSummaries();
+
     List<Widget> getAllWithUsedBy();
 
     void delete(String id);
@@ -0,0 +1,63 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.workspace;
+
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Durations of the successive phases of a workspace initialization or migration, in execution order.
+ */
+public class PhaseTimings {
+
+    private final Map<String, Duration> timings = new LinkedHashMap<>();
+
+    public void time(String phase, Phase action) throws IOException {
+        var start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            timings.merge(phase, Duration.ofNanos(System.nanoTime() - start), Duration::plus);
+        }
+    }
+
+    public Map<String, Duration> asMap() {
+        return Collections.unmodifiableMap(timings);
+    }
+
+    public Duration total() {
+        return timings.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        return timings.entrySet().stream()
+                .map(timing -> timing.getKey() + ": " + timing.getValue().toMillis() + " ms")
+                .collect(joining(", "));
+    }
+
+    @FunctionalInterface
+    public interface Phase {
+
+        void run() throws IOException;
+    }
+}
@@ -19,6 +19,7 @@
 import static java.nio.file.Files.createDirectories;
 import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import java.io.File;
@@ -26,6 +27,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.io.FileUtils;
@@ -78,6 +80,13 @@ public class Workspace {
 
     protected AtomicBoolean initialized = new AtomicBoolean(false);
 
+    /** Work stealing pool used while initializing or migrating the workspace in parallel, null otherwise */
+    private ForkJoinPool pool;
+
+    private PhaseTimings initializationTimings = new PhaseTimings();
+
+    private PhaseTimings migrationTimings = new PhaseTimings();
+
     public Workspace(UiDesignerProperties uiDesignerProperties,
             WidgetRepository widgetRepository,
             PageRepository pageRepository,
@@ -93,48 +102,116 @@ public Workspace(UiDesignerProperties uiDesignerProperties,
         this.widgetAssetDependencyImporter = widgetAssetDependencyImporter;
         this.uiDesignerProperties = uiDesignerProperties;
         this.extractPath = generatorStrategy.getGeneratorProperties().getExtractPath();
-        this.migrations = migrations;
+        // widgets first, as pages and fragments rely on them
+        this.migrations = migrations.stream().sorted().collect(toList());
         this.jsonHandler = jsonHandler;
     }
 
     protected void doInitialize() throws IOException {
-        // First, clean up the extractPath temp dir
-        FileSystemUtils.deleteRecursively(extractPath);
-        ensureTemplateRepositoryPresent();
-        ensureTemplateRepositoryFilled();
-        ensurePageRepositoryPresent();
-        ensureWidgetRepositoryPresent();
-        ensureWidgetRepositoryFilled();
-        ensureFragmentRepositoryPresent();
-        cleanFragmentWorkspace();
-        extractResourcesForExport();
+        initializationTimings.time("templates", () -> {
+            // First, clean up the extractPath temp dir
+            FileSystemUtils.deleteRecursively(extractPath);
+            ensureTemplateRepositoryPresent();
+            ensureTemplateRepositoryFilled();
+            ensurePageRepositoryPresent();
+        });
+        initializationTimings.time("widgets", () -> {
+            ensureWidgetRepositoryPresent();
+            ensureWidgetRepositoryFilled();
+        });
+        initializationTimings.time("fragments", () -> {
+            ensureFragmentRepositoryPresent();
+            cleanFragmentWorkspace();
+        });
+        initializationTimings.time("export resources", this::extractResourcesForExport);
     }
 
     public void initialize() {
         if (!initialized.get()) {
+            initializationTimings = new PhaseTimings();
+            pool = createPool();
             try {
                 doInitialize();
                 for (LiveRepositoryUpdate<?> migration : migrations) {
-                    migration.start();
+                    initializationTimings.time(migration.getComponentName() + " refresh", () -> start(migration));
                 }
-                cleanPageWorkspace();
-                pageRepository.refreshIndexing(pageRepository.getAll());
+                initializationTimings.time("page indexing", () -> {
+                    cleanPageWorkspace();
+                    pageRepository.refreshIndexing(pageRepository.getAll());
+                });
+                initializationTimings.time("references",
+                        () -> migrations.forEach(LiveRepositoryUpdate::refreshReferences));
                 initialized.set(true);
+                logger.info("Workspace initialized in {} ms ({})", initializationTimings.total().toMillis(),
+                        initializationTimings);
             } catch (IOException e) {
                 throw new DesignerInitializerException("Unable to initialize workspace", e);
+            } finally {
+                shutdownPool();
             }
         }
     }
 
     public void migrateWorkspace() {
         initialize(); //Ensure that the workspace initialization is ended
-        migrations.stream().forEachOrdered(migration -> {
-            try {
-                migration.migrate();
-            } catch (IOException e) {
-                throw new DesignerInitializerException("Unable to migrate workspace", e);
+        migrationTimings = new PhaseTimings();
+        pool = createPool();
+        try {
+            for (LiveRepositoryUpdate<?> migration : migrations) {
+                migrationTimings.time(migration.getComponentName() + " migration", () -> migrate(migration));
             }
-        });
+            logger.info("Workspace migrated in {} ms ({})", migrationTimings.total().toMillis(), migrationTimings);
+        } catch (IOException e) {
+            throw new DesignerInitializerException("Unable to migrate workspace", e);
+        } finally {
+            shutdownPool();
+        }
+    }
+
+    /**
+     * @return the duration of each phase of the last workspace initialization
+     */
+    public PhaseTimings getInitializationTimings() {
+        return initializationTimings;
+    }
+
+    /**
+     * @return the duration of each phase of the last workspace migration
+     */
+    public PhaseTimings getMigrationTimings() {
+        return migrationTimings;
+    }
+
+    /**
+     * Artifacts of a same repository are migrated and built concurrently when an initialization parallelism greater
+     * than 1 is configured. Repositories are still processed one after the other, widgets first.
+     */
+    private ForkJoinPool createPool() {
+        var parallelism = uiDesignerProperties.getWorkspaceUid().getInitializationParallelism();
+        return parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    private void shutdownPool() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private void start(LiveRepositoryUpdate<?> migration) throws IOException {
+        if (pool == null) {
+            migration.start();
+        } else {
+            migration.start(pool);
+        }
+    }
+
+    private void migrate(LiveRepositoryUpdate<?> migration) throws IOException {
+        if (pool == null) {
+            migration.migrate();
+        } else {
+            migration.migrate(pool);
+        }
     }
 
     public void indexingArtifacts(List<Page> pages) {
@@ -180,7 +257,7 @@ public void cleanPageWorkspace() {
     }
 
     /**
-     * remove metadata file without a artifact in workspace
+     * remove metadata file without a artifact in workspace. Index files, starting with a dot, are kept.
      *
      * @param workspace
      */
@@ -188,7 +265,7 @@ protected void cleanMetadataFolder(Path workspace) {
         var metadataFolder = new File(workspace.resolve(METADATA_FOLDER_NAME).toString());
         stream(requireNonNull(metadataFolder.listFiles())).forEach(page -> {
             var pageFileName = page.getName();
-            if (!pageExists(workspace, pageFileName)) {
+            if (!pageFileName.startsWith(".") && !pageExists(workspace, pageFileName)) {
                 deleteMissingPageMetadata(workspace, pageFileName);
             }
         });
@@ -258,7 +335,7 @@ private void ensureWidgetRepositoryFilled() throws IOException {
             }
         }
 
-        generatorStrategy.widgetFileBuilder().start(uiDesignerProperties.getWorkspace().getWidgets().getDir());
+        generatorStrategy.widgetFileBuilder().start(uiDesignerProperties.getWorkspace().getWidgets().getDir(), pool);
     }
 
     private void createWidget(Path widgetRepositorySourcePath, Widget widget) throws IOException {
@@ -321,7 +398,7 @@ private void cleanFragmentWorkspace() {
     private void ensureFragmentRepositoryPresent() throws IOException {
         var fragmentsPath = uiDesignerProperties.getWorkspace().getFragments().getDir();
         createDirectories(fragmentsPath);
-        generatorStrategy.fragmentDirectiveBuilder().start(fragmentsPath);
+        generatorStrategy.fragmentDirectiveBuilder().start(fragmentsPath, pool);
     }
 
     private boolean isFragmentDescriptorExist(Path fragWorkspace, String fragment) {
@@ -20,12 +20,23 @@
 import static org.bonitasoft.web.designer.builder.FragmentBuilder.aFragment;
 import static org.bonitasoft.web.designer.builder.PageBuilder.aPage;
 import static org.bonitasoft.web.designer.builder.WidgetBuilder.aWidget;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.UUID;
 
 import org.bonitasoft.web.designer.common.generator.rendering.HtmlGenerator;
+import org.bonitasoft.web.designer.controller.export.BatchExporter;
+import org.bonitasoft.web.designer.controller.export.ExportException;
+import org.bonitasoft.web.designer.controller.export.ExportResult;
 import org.bonitasoft.web.designer.controller.export.FragmentExporter;
 import org.bonitasoft.web.designer.controller.export.PageExporter;
 import org.bonitasoft.web.designer.controller.export.WidgetExporter;
@@ -42,6 +53,7 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -56,6 +68,8 @@ class DefaultArtifactBuilderTest {
     private FragmentService fragmentService;
     @Mock
     private WidgetService widgetService;
+    @Mock
+    private PageExporter pageExporter;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -67,9 +81,10 @@ void setUp() throws Exception {
                 fragmentService,
                 pageService,
                 // Export
-                mock(PageExporter.class),
+                pageExporter,
                 mock(FragmentExporter.class),
                 mock(WidgetExporter.class),
+                new BatchExporter(2),
                 mock(HtmlGenerator.class),
                 // Import
                 new ImportStore(),
@@ -91,6 +106,53 @@ void build_page_should_call_page_service() throws ModelException, IOException {
         verify(pageService).get(id);
     }
 
+    @Test
+    void build_page_should_stream_export_in_given_stream() throws Exception {
+        var stream = new ByteArrayOutputStream();
+
+        artifactBuilder.buildPage("page-id", stream);
+
+        verify(pageExporter).handleStreamingExport("page-id", stream);
+    }
+
+    @Test
+    void build_page_should_export_in_given_file(@TempDir Path tmpDir) throws Exception {
+        var target = tmpDir.resolve("page.zip");
+
+        artifactBuilder.buildPage("page-id", target);
+
+        verify(pageExporter).handleStreamingExport(eq("page-id"), any(OutputStream.class));
+        assertThat(target).exists();
+    }
+
+    @Test
+    void build_page_should_remove_file_when_export_fails(@TempDir Path tmpDir) throws Exception {
+        var target = tmpDir.resolve("page.zip");
+        doThrow(new ModelException("incompatible")).when(pageExporter).handleStreamingExport(eq("page-id"),
+                any(OutputStream.class));
+
+        assertThrows(ModelException.class, () -> artifactBuilder.buildPage("page-id", target));
+        assertThat(target).doesNotExist();
+    }
+
+    @Test
+    void build_pages_should_export_each_page_and_report_failures() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream> getArgument(1).write(invocation.<String> getArgument(0).getBytes());
+            return null;
+        }).when(pageExporter).handleStreamingExport(anyString(), any(OutputStream.class));
+        var error = new ExportException("failure", null);
+        doThrow(error).when(pageExporter).handleStreamingExport(eq("broken"), any(OutputStream.class));
+
+        var results = artifactBuilder.buildPages(List.of("page1", "broken", "page2"));
+
+        assertThat(results).extracting(ExportResult::getId).containsExactly("page1", "broken", "page2");
+        assertThat(results).extracting(ExportResult::isSuccessful).containsExactly(true, false, true);
+        assertThat(results.get(0).getContent()).isEqualTo("page1".getBytes());
+        assertThat(results.get(1).getError()).isSameAs(error);
+        assertThat(results.get(2).getContent()).isEqualTo("page2".getBytes());
+    }
+
     @Test
     void build_fragment_should_call_page_service() throws ModelException, IOException {
         // Given
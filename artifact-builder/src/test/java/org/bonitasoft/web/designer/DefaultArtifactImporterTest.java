@@ -31,6 +31,7 @@
 import java.util.Collection;
 
 import org.bonitasoft.web.designer.common.generator.rendering.HtmlGenerator;
+import org.bonitasoft.web.designer.controller.export.BatchExporter;
 import org.bonitasoft.web.designer.controller.export.FragmentExporter;
 import org.bonitasoft.web.designer.controller.export.PageExporter;
 import org.bonitasoft.web.designer.controller.export.WidgetExporter;
@@ -77,7 +78,7 @@ void setUp() throws Exception {
                 mock(WidgetService.class),
                 mock(FragmentService.class),
                 mock(PageService.class),
-                pageExporter, fragmentExporter, widgetExporter, htmlGenerator,
+                pageExporter, fragmentExporter, widgetExporter, new BatchExporter(1), htmlGenerator,
                 importStore, pageImporter, fragmentImporter, widgetImporter));
 
         resources = createDirectory(tempDir.resolve("resources"));
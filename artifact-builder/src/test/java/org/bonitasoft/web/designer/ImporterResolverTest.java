@@ -29,6 +29,7 @@
 import java.util.UUID;
 
 import org.bonitasoft.web.angularjs.rendering.DefaultHtmlGenerator;
+import org.bonitasoft.web.designer.controller.export.BatchExporter;
 import org.bonitasoft.web.designer.controller.export.FragmentExporter;
 import org.bonitasoft.web.designer.controller.export.PageExporter;
 import org.bonitasoft.web.designer.controller.export.WidgetExporter;
@@ -75,6 +76,7 @@ void setUp() throws Exception {
                 mock(PageExporter.class),
                 mock(FragmentExporter.class),
                 mock(WidgetExporter.class),
+                new BatchExporter(1),
                 mock(DefaultHtmlGenerator.class),
                 importStore,
                 pageImporter,
@@ -29,11 +29,16 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bonitasoft.web.designer.common.export.ExportStep;
 import org.bonitasoft.web.designer.common.export.Zipper;
+import org.bonitasoft.web.designer.common.instrumentation.HistogramInstrumentation;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.controller.utils.Unzipper;
 import org.bonitasoft.web.designer.model.JsonHandler;
@@ -122,6 +127,21 @@ void should_fill_output_stream(@TempDir Path tmpDir) throws Exception {
         assertThat(stream.size()).isPositive();
     }
 
+    @Test
+    void should_record_loading_and_zip_phases_in_instrumentation(@TempDir Path tmpDir) throws Exception {
+        Page page = create(aPage().withId("myPage").build(), tmpDir);
+        var instrumentation = new HistogramInstrumentation();
+        exporter.setInstrumentation(instrumentation);
+
+        exporter.handleFileExport(page.getId(), artifactStream);
+
+        assertThat(instrumentation.getHistogram(Instrumentation.ARTIFACT_LOAD).getCount()).isEqualTo(1);
+        assertThat(instrumentation.getHistogram(Instrumentation.ZIP_FINISH).getBytes())
+                .isEqualTo(artifactStream.size());
+        assertThat(instrumentation.getHistograms().keySet())
+                .anyMatch(phase -> phase.startsWith(Instrumentation.EXPORT_STEP + "ExportStep$MockitoMock$"));
+    }
+
     @Test
     void should_export_json_model_of_the_exported_artefact(@TempDir Path tmpDir) throws Exception {
         Page page = create(aPage().withId("myPage").build(), tmpDir);
@@ -151,6 +171,43 @@ void should_execute_export_steps(@TempDir Path tmpDir) throws Exception {
         deleteDirectory(unzipped.toFile());
     }
 
+    @Test
+    void should_stream_export_in_output_stream_without_closing_it(@TempDir Path tmpDir) throws Exception {
+        Page page = create(aPage().withId("myPage").build(), tmpDir);
+        AtomicBoolean closed = new AtomicBoolean();
+        OutputStream stream = new FilterOutputStream(artifactStream) {
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        exporter.handleStreamingExport(page.getId(), stream);
+
+        assertThat(closed).isFalse();
+        Path unzipped = unzip(artifactStream);
+        assertThat(readAllBytes(unzipped.resolve("resources/page.json")))
+                .isEqualTo(readAllBytes(tmpDir.resolve(page.getId() + ".json")));
+        deleteDirectory(unzipped.toFile());
+    }
+
+    @Test
+    void should_not_write_anything_when_streamed_page_is_not_compatible(@TempDir Path tmpDir) throws Exception {
+        Page page = create(aPage().withModelVersion("5.0").isCompatible(false).build(), tmpDir);
+
+        assertThrows(ModelException.class, () -> exporter.handleStreamingExport(page.getId(), artifactStream));
+        assertThat(artifactStream.size()).isZero();
+    }
+
+    @Test
+    void should_not_write_anything_when_streamed_page_is_not_found() {
+        when(pageService.get("unknown-id")).thenThrow(new NotFoundException("Page not found"));
+
+        assertThrows(ExportException.class, () -> exporter.handleStreamingExport("unknown-id", artifactStream));
+        assertThat(artifactStream.size()).isZero();
+    }
+
     /**
      * Fake step that add things to zip
      */
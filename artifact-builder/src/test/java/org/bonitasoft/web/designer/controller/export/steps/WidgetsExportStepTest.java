@@ -23,13 +23,12 @@
 
 import java.io.OutputStream;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Arrays;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.angularjs.export.Minifier;
 import org.bonitasoft.web.angularjs.export.WidgetsExportStep;
 import org.bonitasoft.web.angularjs.rendering.DirectiveFileGenerator;
+import org.bonitasoft.web.angularjs.rendering.DirectivesBundleCache;
 import org.bonitasoft.web.designer.common.export.Zipper;
 import org.bonitasoft.web.designer.common.repository.FragmentRepository;
 import org.bonitasoft.web.designer.common.visitor.WidgetIdVisitor;
@@ -77,6 +76,13 @@ void beforeEach() {
         }
     }
 
+    private void mockDirectivesBundle(Page page, byte[] content) {
+        DirectivesBundleCache.Bundle bundle = mock(DirectivesBundleCache.Bundle.class);
+        when(bundle.getContent()).thenReturn(content);
+        when(bundle.getHash()).thenReturn(DigestUtils.sha1Hex(content));
+        when(directiveFileGenerator.getDirectivesBundle(page)).thenReturn(bundle);
+    }
+
     @Test
     void should_add_page_widgets_to_zip() throws Exception {
         repository.addWidget(aWidget().withId("widget1"));
@@ -85,13 +91,8 @@ void should_add_page_widgets_to_zip() throws Exception {
                 aComponent("widget1"),
                 aComponent("widget2"))
                 .build();
-        String content = "Mon   content   to                 minify";
-        byte[] expected = Minifier.minify(content.getBytes());
-        when(directiveFileGenerator.getWidgetsFilesUsedInPage(page))
-                .thenReturn(Arrays.asList(Paths.get("widget1"), Paths
-                        .get("widget2")));
-        when(directiveFileGenerator.concatenate(Arrays.asList(Paths.get("widget1"), Paths
-                .get("widget2")))).thenReturn(content.getBytes());
+        byte[] expected = Minifier.minify("Mon   content   to                 minify".getBytes());
+        mockDirectivesBundle(page, expected);
 
         step.execute(zipper, page);
 
@@ -104,9 +105,7 @@ void should_add_page_widgets_to_zip() throws Exception {
     void should_not_add_widget_metadata_to_zip() throws Exception {
         repository.addWidget(aWidget().withId("widget"));
         Page page = aPage().with(aComponent("widget")).build();
-        String content = "content";
-        when(directiveFileGenerator.getWidgetsFilesUsedInPage(page)).thenReturn(Arrays.asList(Paths.get("widget")));
-        when(directiveFileGenerator.concatenate(Arrays.asList(Paths.get("widget")))).thenReturn(content.getBytes());
+        mockDirectivesBundle(page, "content".getBytes());
 
         step.execute(zipper, page);
 
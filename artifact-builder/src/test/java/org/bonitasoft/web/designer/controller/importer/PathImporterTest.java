@@ -31,6 +31,7 @@
 import org.bonitasoft.web.designer.DefaultArtifactBuilder;
 import org.bonitasoft.web.designer.builder.WidgetBuilder;
 import org.bonitasoft.web.designer.common.generator.rendering.HtmlGenerator;
+import org.bonitasoft.web.designer.controller.export.BatchExporter;
 import org.bonitasoft.web.designer.controller.export.FragmentExporter;
 import org.bonitasoft.web.designer.controller.export.PageExporter;
 import org.bonitasoft.web.designer.controller.export.WidgetExporter;
@@ -76,6 +77,7 @@ void setUp(@TempDir Path tempDir) throws Exception {
                 mock(PageExporter.class),
                 mock(FragmentExporter.class),
                 mock(WidgetExporter.class),
+                new BatchExporter(1),
                 mock(HtmlGenerator.class),
                 importStore,
                 pageImporter,
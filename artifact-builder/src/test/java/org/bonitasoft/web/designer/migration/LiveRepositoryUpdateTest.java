@@ -29,6 +29,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
@@ -94,6 +95,72 @@ void should_migrate_a_page() throws Exception {
         verify(persister).save(folder.resolve("pageJson"), page);
     }
 
+    @Test
+    void should_migrate_pages_in_parallel() throws Exception {
+        Migration<Page> migration = new Migration<>("2.1", mock(MigrationStep.class));
+        LiveRepositoryUpdate<Page> liveRepositoryUpdate = new LiveRepositoryUpdate<>(repository,
+                singletonList(migration));
+        List<Page> pages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pages.add(createPage("page" + i, "2.0"));
+        }
+
+        var pool = new ForkJoinPool(4);
+        try {
+            liveRepositoryUpdate.migrate(pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (Page page : pages) {
+            page.setModelVersion("2.1");
+            verify(persister).save(folder.resolve(page.getId()), page);
+        }
+    }
+
+    @Test
+    void should_not_read_again_artifacts_which_did_not_change_since_last_migration() throws Exception {
+        MigrationStep<Page> migrationStep = mock(MigrationStep.class);
+        LiveRepositoryUpdate<Page> liveRepositoryUpdate = new LiveRepositoryUpdate<>(repository,
+                singletonList(new Migration<>("2.1", migrationStep)), new MigrationLedger(jsonHandler, folder));
+        createPage("2.0");
+        liveRepositoryUpdate.migrate();
+
+        new LiveRepositoryUpdate<>(repository, singletonList(new Migration<>("2.1", migrationStep)),
+                new MigrationLedger(jsonHandler, folder)).migrate();
+
+        verify(migrationStep, times(1)).migrate(any(Page.class));
+    }
+
+    @Test
+    void should_migrate_again_artifacts_changed_since_last_migration() throws Exception {
+        MigrationStep<Page> migrationStep = mock(MigrationStep.class);
+        LiveRepositoryUpdate<Page> liveRepositoryUpdate = new LiveRepositoryUpdate<>(repository,
+                singletonList(new Migration<>("2.1", migrationStep)), new MigrationLedger(jsonHandler, folder));
+        createPage("2.0");
+        liveRepositoryUpdate.migrate();
+
+        write(folder.resolve("pageJson").resolve("pageJson.json"),
+                "{ \"id\": \"pageJson\", \"modelVersion\": \"2.0\", \"name\": \"changed\" }".getBytes());
+        liveRepositoryUpdate.migrate();
+
+        verify(migrationStep, times(2)).migrate(any(Page.class));
+    }
+
+    @Test
+    void should_migrate_again_artifacts_when_a_new_migration_is_available() throws Exception {
+        MigrationStep<Page> migrationStep = mock(MigrationStep.class);
+        MigrationStep<Page> newMigrationStep = mock(MigrationStep.class);
+        createPage("2.0");
+        new LiveRepositoryUpdate<>(repository, singletonList(new Migration<>("2.1", migrationStep)),
+                new MigrationLedger(jsonHandler, folder)).migrate();
+
+        new LiveRepositoryUpdate<>(repository, List.of(new Migration<>("2.1", migrationStep),
+                new Migration<>("2.2", newMigrationStep)), new MigrationLedger(jsonHandler, folder)).migrate();
+
+        verify(newMigrationStep).migrate(any(Page.class));
+    }
+
     @Test
     void should_not_migrate_file_which_are_not_json() throws Exception {
         Migration<Page> migration = mock(Migration.class);
@@ -163,9 +230,13 @@ void should_order_LiveRepositoryUpdate() {
     }
 
     private Page createPage(String version) throws IOException {
-        var pageJson = Files.createDirectory(folder.resolve("pageJson"));
-        Path descriptor = Files.createFile(pageJson.resolve("pageJson.json"));
-        write(descriptor, format("{ \"id\": \"pageJson\", \"modelVersion\": \"%s\" }", version).getBytes());
+        return createPage("pageJson", version);
+    }
+
+    private Page createPage(String id, String version) throws IOException {
+        var pageJson = Files.createDirectory(folder.resolve(id));
+        Path descriptor = Files.createFile(pageJson.resolve(id + ".json"));
+        write(descriptor, format("{ \"id\": \"%s\", \"modelVersion\": \"%s\" }", id, version).getBytes());
 
         return loader.load(descriptor);
     }
@@ -0,0 +1,113 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.migration;
+
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MigrationLedgerTest {
+
+    private final JsonHandler jsonHandler = new JsonHandlerFactory().create();
+
+    @TempDir
+    Path folder;
+
+    private Path descriptor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        descriptor = write(Files.createDirectory(folder.resolve("page")).resolve("page.json"),
+                "{ \"id\": \"page\", \"modelVersion\": \"2.1\" }".getBytes());
+    }
+
+    @Test
+    void should_return_recorded_version_of_an_unchanged_descriptor() {
+        var ledger = new MigrationLedger(jsonHandler, folder);
+
+        ledger.record("page", "2.1", descriptor);
+
+        assertThat(ledger.getVersion("page", descriptor)).isEqualTo("2.1");
+    }
+
+    @Test
+    void should_not_return_a_version_for_an_unknown_artifact() {
+        var ledger = new MigrationLedger(jsonHandler, folder);
+
+        assertThat(ledger.getVersion("page", descriptor)).isNull();
+    }
+
+    @Test
+    void should_not_return_a_version_when_descriptor_changed() throws Exception {
+        var ledger = new MigrationLedger(jsonHandler, folder);
+        ledger.record("page", "2.1", descriptor);
+
+        write(descriptor, "{ \"id\": \"page\", \"modelVersion\": \"2.0\" }".getBytes());
+
+        assertThat(ledger.getVersion("page", descriptor)).isNull();
+    }
+
+    @Test
+    void should_return_recorded_version_when_descriptor_has_only_been_touched() throws Exception {
+        var ledger = new MigrationLedger(jsonHandler, folder);
+        ledger.record("page", "2.1", descriptor);
+
+        Files.setLastModifiedTime(descriptor, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+
+        assertThat(ledger.getVersion("page", descriptor)).isEqualTo("2.1");
+    }
+
+    @Test
+    void should_persist_ledger_in_metadata_folder() {
+        var ledger = new MigrationLedger(jsonHandler, folder);
+        ledger.record("page", "2.1", descriptor);
+
+        ledger.store();
+
+        assertThat(folder.resolve(".metadata").resolve(".migrations.json")).exists();
+        assertThat(new MigrationLedger(jsonHandler, folder).getVersion("page", descriptor)).isEqualTo("2.1");
+    }
+
+    @Test
+    void should_forget_artifacts_which_do_not_exist_anymore() {
+        var ledger = new MigrationLedger(jsonHandler, folder);
+        ledger.record("page", "2.1", descriptor);
+
+        ledger.retainAll(List.of("another"));
+        ledger.store();
+
+        assertThat(new MigrationLedger(jsonHandler, folder).getVersion("page", descriptor)).isNull();
+    }
+
+    @Test
+    void should_ignore_a_corrupted_ledger() throws Exception {
+        Files.createDirectories(folder.resolve(".metadata"));
+        write(folder.resolve(".metadata").resolve(".migrations.json"), "not json".getBytes());
+
+        assertThat(new MigrationLedger(jsonHandler, folder).getVersion("page", descriptor)).isNull();
+    }
+}
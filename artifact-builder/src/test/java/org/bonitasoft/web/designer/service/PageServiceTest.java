@@ -49,6 +49,7 @@
 import org.bonitasoft.web.designer.config.UiDesignerProperties;
 import org.bonitasoft.web.designer.controller.asset.AssetService;
 import org.bonitasoft.web.designer.model.ArtifactStatusReport;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.asset.Asset;
 import org.bonitasoft.web.designer.model.asset.AssetScope;
 import org.bonitasoft.web.designer.model.asset.AssetType;
@@ -261,6 +262,39 @@ void should_list_pages() throws Exception {
         assertThat(firstPage.getStatus()).isEqualTo(defaultStatusReport);
     }
 
+    @Test
+    void should_compute_summaries_status_from_referenced_widgets_and_fragments() {
+        when(pageMigrationApplyer.getWidgetSummaries()).thenReturn(List.of(
+                aSummary("pbInput", "2.0", new ArtifactStatusReport(true, false)),
+                aSummary("customWidget", "1.0", new ArtifactStatusReport(true, true))));
+        when(pageMigrationApplyer.getFragmentSummaries()).thenReturn(List.of(
+                aSummary("newFragment", "3.0", new ArtifactStatusReport(false, false))));
+        when(pageRepository.getSummaries()).thenReturn(List.of(
+                aSummary("upToDate", "2.0", null, "pbInput"),
+                aSummary("usingCustomWidget", "2.0", null, "pbInput", "customWidget"),
+                aSummary("usingNewFragment", "1.0", null, "customWidget", "newFragment"),
+                aSummary("old", "1.0", null, "unknown")));
+
+        var summaries = pageService.getSummaries();
+
+        assertThat(summaries).extracting(ArtifactSummary::getId, summary -> summary.getStatus().isCompatible(),
+                summary -> summary.getStatus().isMigration()).containsExactly(
+                        tuple("upToDate", true, false),
+                        tuple("usingCustomWidget", true, true),
+                        tuple("usingNewFragment", false, false),
+                        tuple("old", true, true));
+    }
+
+    private ArtifactSummary aSummary(String id, String artifactVersion, ArtifactStatusReport status,
+            String... references) {
+        var summary = new ArtifactSummary();
+        summary.setId(id);
+        summary.setArtifactVersion(artifactVersion);
+        summary.setStatus(status);
+        summary.getReferences().addAll(asList(references));
+        return summary;
+    }
+
     @Test
     void should_create_a_page_from_a_Page() throws Exception {
         Page pageToBeSaved = aPage().withId("my-page").build();
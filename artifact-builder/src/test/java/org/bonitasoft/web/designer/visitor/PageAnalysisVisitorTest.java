@@ -0,0 +1,160 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.visitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.bonitasoft.web.designer.builder.AssetBuilder.anAsset;
+import static org.bonitasoft.web.designer.builder.ComponentBuilder.aComponent;
+import static org.bonitasoft.web.designer.builder.ContainerBuilder.aContainer;
+import static org.bonitasoft.web.designer.builder.FragmentBuilder.aFragment;
+import static org.bonitasoft.web.designer.builder.FragmentElementBuilder.aFragmentElement;
+import static org.bonitasoft.web.designer.builder.PageBuilder.aPage;
+import static org.bonitasoft.web.designer.builder.RowBuilder.aRow;
+import static org.bonitasoft.web.designer.builder.TabContainerBuilder.aTabContainer;
+import static org.bonitasoft.web.designer.builder.TabsContainerBuilder.aTabsContainer;
+import static org.bonitasoft.web.designer.builder.VariableBuilder.aConstantVariable;
+import static org.bonitasoft.web.designer.builder.WidgetBuilder.aWidget;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.bonitasoft.web.angularjs.visitor.ModelPropertiesVisitor;
+import org.bonitasoft.web.angularjs.visitor.PropertyValuesVisitor;
+import org.bonitasoft.web.angularjs.visitor.RequiredModulesVisitor;
+import org.bonitasoft.web.angularjs.visitor.VariableModelVisitor;
+import org.bonitasoft.web.designer.common.repository.FragmentRepository;
+import org.bonitasoft.web.designer.common.repository.WidgetRepository;
+import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
+import org.bonitasoft.web.designer.common.visitor.AssetVisitor;
+import org.bonitasoft.web.designer.common.visitor.FragmentIdVisitor;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysisVisitor;
+import org.bonitasoft.web.designer.common.visitor.WidgetIdVisitor;
+import org.bonitasoft.web.designer.model.asset.Asset;
+import org.bonitasoft.web.designer.model.fragment.Fragment;
+import org.bonitasoft.web.designer.model.page.Page;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PageAnalysisVisitorTest {
+
+    @Mock
+    private WidgetRepository widgetRepository;
+
+    @Mock
+    private FragmentRepository fragmentRepository;
+
+    private PageAnalysisVisitor pageAnalysisVisitor;
+
+    @BeforeEach
+    void setUp() {
+        pageAnalysisVisitor = new PageAnalysisVisitor(widgetRepository, fragmentRepository);
+        lenient().when(widgetRepository.get(anyString()))
+                .thenAnswer(invocation -> aWidget().withId(invocation.getArgument(0)).build());
+    }
+
+    @Test
+    void should_collect_the_same_resources_as_the_dedicated_visitors() throws Exception {
+        Page page = aPageUsingFragments();
+
+        var analysis = pageAnalysisVisitor.analyze(page);
+
+        assertThat(analysis.getWidgetIds()).isEqualTo(new WidgetIdVisitor(fragmentRepository).visit(page));
+        assertThat(analysis.getFragmentIds()).isEqualTo(new FragmentIdVisitor(fragmentRepository).visit(page));
+        assertThat(analysis.getAssets())
+                .isEqualTo(new AssetVisitor(widgetRepository, fragmentRepository).visit(page));
+        assertThat(analysis.getRequiredModules())
+                .isEqualTo(new RequiredModulesVisitor(widgetRepository, fragmentRepository).visit(page));
+        assertThat(analysis.getPropertyValues())
+                .isEqualTo(new PropertyValuesVisitor(fragmentRepository).visit(page));
+        assertThat(analysis.getModelProperties())
+                .isEqualTo(new ModelPropertiesVisitor(fragmentRepository).visit(page));
+        assertThat(analysis.getVariables()).isEqualTo(new VariableModelVisitor(fragmentRepository).visit(page));
+    }
+
+    @Test
+    void should_load_each_fragment_and_widget_only_once() throws Exception {
+        Page page = aPageUsingFragments();
+
+        var analysis = pageAnalysisVisitor.analyze(page);
+
+        assertThat(analysis.getFragmentIds()).containsExactly("outer", "inner");
+        verify(fragmentRepository, times(1)).get("outer");
+        verify(fragmentRepository, times(1)).get("inner");
+        verify(widgetRepository, times(1)).get("pbInput");
+    }
+
+    @Test
+    void should_flag_page_assets_excluded_by_the_user_as_inactive() throws Exception {
+        Page page = aPage()
+                .withAsset(anAsset().withId("active").withName("active.js"),
+                        anAsset().withId("inactive").withName("inactive.js"))
+                .withInactiveAsset("inactive")
+                .build();
+
+        var analysis = pageAnalysisVisitor.analyze(page);
+
+        assertThat(analysis.getAssets()).extracting(Asset::getName, Asset::isActive)
+                .containsOnly(tuple("active.js", true), tuple("inactive.js", false));
+    }
+
+    @Test
+    void should_serve_analysed_fragments_and_reject_unknown_ones() throws Exception {
+        Page page = aPageUsingFragments();
+
+        var analysis = pageAnalysisVisitor.analyze(page);
+
+        assertThat(analysis.getFragment("inner").getId()).isEqualTo("inner");
+        assertThatThrownBy(() -> analysis.getFragment("unknown"))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    /**
+     * A page using twice an "outer" fragment, which itself uses an "inner" fragment
+     */
+    private Page aPageUsingFragments() throws Exception {
+        Fragment inner = aFragment().withId("inner")
+                .withVariable("innerVariable", aConstantVariable().value("inner").exposed(true))
+                .with(aComponent().withWidgetId("pbInput").withReference("inner-input"))
+                .build();
+        Fragment outer = aFragment().withId("outer")
+                .withVariable("exposed", aConstantVariable().value("foo").exposed(true))
+                .with(aRow().with(aFragmentElement().withFragmentId("inner").withBinding("innerVariable", "exposed")
+                        .withReference("inner-reference")))
+                .build();
+        lenient().when(fragmentRepository.get("inner")).thenReturn(inner);
+        lenient().when(fragmentRepository.get("outer")).thenReturn(outer);
+
+        return aPage().withId("page")
+                .withAsset(anAsset().withName("page.js"))
+                .withVariable("pageVariable", aConstantVariable().value("bar"))
+                .with(aContainer().with(
+                        aRow().with(aFragmentElement().withFragmentId("outer").withBinding("exposed", "pageVariable")
+                                .withReference("first-outer")),
+                        aRow().with(aTabsContainer().with(aTabContainer().with(aContainer().with(
+                                aFragmentElement().withFragmentId("outer").withBinding("exposed", "pageVariable")
+                                        .withReference("second-outer")))))))
+                .build();
+    }
+}
@@ -18,6 +18,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -25,6 +26,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.bonitasoft.web.angularjs.GeneratorProperties;
 import org.bonitasoft.web.angularjs.workspace.FragmentDirectiveBuilder;
@@ -69,12 +71,14 @@ class WorkspaceInitializerTest {
 
     private Workspace workspace;
 
+    private UiDesignerProperties uiDesignerProperties;
+
     @Mock
     private GeneratorStrategy generatorStrategy;
 
     @BeforeEach
     void setUp() throws IOException {
-        UiDesignerProperties uiDesignerProperties = newUiDesignerProperties();
+        uiDesignerProperties = newUiDesignerProperties();
 
         when(widgetRepository.resolvePath(anyString())).thenAnswer(invocation -> {
             String id = invocation.getArgument(0);
@@ -142,6 +146,40 @@ void should_start_widget_live_migration() throws Exception {
         verify(widgetRepositoryLiveUpdate).start();
     }
 
+    @Test
+    void should_start_live_migrations_in_parallel_when_parallelism_is_configured() throws Exception {
+        uiDesignerProperties.getWorkspaceUid().setInitializationParallelism(4);
+
+        workspace.initialize();
+
+        verify(widgetRepositoryLiveUpdate).start(any(ForkJoinPool.class));
+        verify(pageRepositoryLiveUpdate).start(any(ForkJoinPool.class));
+        verify(widgetRepositoryLiveUpdate, never()).start();
+    }
+
+    @Test
+    void should_report_initialization_timings() throws Exception {
+        when(widgetRepositoryLiveUpdate.getComponentName()).thenReturn("widget");
+        when(pageRepositoryLiveUpdate.getComponentName()).thenReturn("page");
+
+        workspace.initialize();
+
+        assertThat(workspace.getInitializationTimings().asMap()).containsOnlyKeys("templates", "widgets", "fragments",
+                "export resources", "widget refresh", "page refresh", "page indexing", "references");
+    }
+
+    @Test
+    void should_report_migration_timings() throws Exception {
+        when(widgetRepositoryLiveUpdate.getComponentName()).thenReturn("widget");
+        when(pageRepositoryLiveUpdate.getComponentName()).thenReturn("page");
+
+        workspace.migrateWorkspace();
+
+        assertThat(workspace.getMigrationTimings().asMap()).containsOnlyKeys("widget migration", "page migration");
+        verify(widgetRepositoryLiveUpdate).migrate();
+        verify(pageRepositoryLiveUpdate).migrate();
+    }
+
     @Test
     void should_throw_runtimeException_if_error_occurs_while_initializing_workspace() throws Exception {
         doThrow(new IOException()).when(workspace).doInitialize();
@@ -0,0 +1,71 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.web.designer.common.migration.Version;
+import org.bonitasoft.web.designer.common.repository.PageRepository;
+import org.bonitasoft.web.designer.migration.MigrationLedger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Migrating a whole workspace, either made of artifacts in the initial model version or already up to date.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MigrationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class OutdatedWorkspace {
+
+        /**
+         * Write again every artifact in the initial model version, and forget previous migrations
+         */
+        @Setup(Level.Invocation)
+        public void setUp(WorkspaceState state) throws IOException {
+            state.createWorkspace(Version.INITIAL_MODEL_VERSION).generate(state.getProperties());
+            Files.deleteIfExists(state.getProperties().getWorkspace().getWidgets().getDir()
+                    .resolve(PageRepository.METADATA).resolve(MigrationLedger.MIGRATIONS_METADATA + ".json"));
+        }
+    }
+
+    @Benchmark
+    public void migrateOutdatedWorkspace(WorkspaceState state, OutdatedWorkspace outdated) {
+        state.getArtifactBuilder().getWorkspace().migrateWorkspace();
+    }
+
+    @Benchmark
+    public void migrateUpToDateWorkspace(WorkspaceState state) {
+        state.getArtifactBuilder().getWorkspace().migrateWorkspace();
+    }
+}
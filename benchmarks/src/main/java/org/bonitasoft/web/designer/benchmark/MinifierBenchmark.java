@@ -0,0 +1,98 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.web.angularjs.export.Minifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import inconspicuous.jsmin.JSMin;
+
+/**
+ * Minifying widget directives, as done when exporting an artifact.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MinifierBenchmark {
+
+    private static final String DIRECTIVE = "(function () {\n"
+            + "  /**\n"
+            + "   * Directive generated for a custom widget\n"
+            + "   */\n"
+            + "  angular.module('bonitasoft.ui.widgets')\n"
+            + "    .directive('customWidget%d', function() {\n"
+            + "      return {\n"
+            + "        controllerAs: 'ctrl',\n"
+            + "        controller: function ($scope) {\n"
+            + "          // keep a comment so that minification has something to remove\n"
+            + "          var ctrl = this, pattern = /^\\s+|\\s+$/g;\n"
+            + "          ctrl.format = function (value) {\n"
+            + "            return value ? String(value).replace(pattern, '') : \"\";\n"
+            + "          };\n"
+            + "        },\n"
+            + "        template: '<div ng-class=\"properties.cssClasses\">{{ properties.text | uiTranslate }}</div>'\n"
+            + "      };\n"
+            + "    });\n"
+            + "})();\n";
+
+    @Param({ "10", "100" })
+    public int directives;
+
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        var builder = new StringBuilder();
+        for (var i = 0; i < directives; i++) {
+            builder.append(String.format(DIRECTIVE, i));
+        }
+        content = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] minify() {
+        return Minifier.minify(content);
+    }
+
+    /**
+     * The stream based JSMin engine the minifier used before, as a reference
+     */
+    @Benchmark
+    public byte[] jsminStream() throws Exception {
+        var out = new ByteArrayOutputStream();
+        new JSMin(new ByteArrayInputStream(content), out).jsmin();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,193 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.benchmark;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.write;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.web.designer.config.UiDesignerProperties;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+
+/**
+ * Generate a workspace made of <code>pages</code> pages, each holding <code>components</code> components spread over
+ * <code>customWidgets</code> custom widgets, plus a chain of <code>fragmentDepth</code> nested fragments included in
+ * every page.
+ * <p>
+ * Descriptors are written as the designer stores them, in the artifact version given by <code>artifactVersion</code>,
+ * so that an old version can be used to benchmark migrations.
+ */
+public class SyntheticWorkspace {
+
+    public static final String PAGE_PREFIX = "page";
+    public static final String FRAGMENT_PREFIX = "fragment";
+    public static final String WIDGET_PREFIX = "customWidget";
+
+    private final JsonHandler jsonHandler = new JsonHandlerFactory().create();
+
+    private final int pages;
+    private final int components;
+    private final int customWidgets;
+    private final int fragmentDepth;
+    private final String artifactVersion;
+
+    public SyntheticWorkspace(int pages, int components, int customWidgets, int fragmentDepth,
+            String artifactVersion) {
+        this.pages = pages;
+        this.components = components;
+        this.customWidgets = customWidgets;
+        this.fragmentDepth = fragmentDepth;
+        this.artifactVersion = artifactVersion;
+    }
+
+    /**
+     * Remove the pages, fragments and custom widgets of the workspace, then generate them again
+     */
+    public void generate(UiDesignerProperties properties) throws IOException {
+        var workspace = properties.getWorkspace();
+        FileUtils.deleteDirectory(workspace.getPages().getDir().toFile());
+        FileUtils.deleteDirectory(workspace.getFragments().getDir().toFile());
+        for (var id : getWidgetIds()) {
+            FileUtils.deleteDirectory(workspace.getWidgets().getDir().resolve(id).toFile());
+        }
+
+        for (var id : getWidgetIds()) {
+            writeDescriptor(workspace.getWidgets().getDir(), id, widget(id));
+        }
+        for (var i = 0; i < fragmentDepth; i++) {
+            var id = FRAGMENT_PREFIX + i;
+            var next = i + 1 < fragmentDepth ? FRAGMENT_PREFIX + (i + 1) : null;
+            writeDescriptor(workspace.getFragments().getDir(), id, fragment(id, next));
+        }
+        for (var id : getPageIds()) {
+            writeDescriptor(workspace.getPages().getDir(), id, page(id));
+        }
+    }
+
+    public List<String> getPageIds() {
+        return ids(PAGE_PREFIX, pages);
+    }
+
+    public List<String> getWidgetIds() {
+        return ids(WIDGET_PREFIX, customWidgets);
+    }
+
+    private List<String> ids(String prefix, int count) {
+        List<String> ids = new ArrayList<>();
+        for (var i = 0; i < count; i++) {
+            ids.add(prefix + i);
+        }
+        return ids;
+    }
+
+    private void writeDescriptor(Path repository, String id, Map<String, Object> descriptor) throws IOException {
+        var directory = createDirectories(repository.resolve(id));
+        write(directory.resolve(id + ".json"), jsonHandler.toJson(descriptor));
+    }
+
+    private Map<String, Object> page(String id) {
+        List<Object> rows = new ArrayList<>();
+        for (var i = 0; i < components; i++) {
+            var widgetId = customWidgets > 0 ? WIDGET_PREFIX + (i % customWidgets) : "pbText";
+            rows.add(List.of(component(widgetId, "text " + i)));
+        }
+        if (fragmentDepth > 0) {
+            rows.add(List.of(fragmentElement(FRAGMENT_PREFIX + 0)));
+        }
+        var page = artifact(id, "page");
+        page.put("rows", rows);
+        page.put("assets", List.of());
+        page.put("data", Map.of());
+        page.put("variables", Map.of());
+        return page;
+    }
+
+    private Map<String, Object> fragment(String id, String nestedFragmentId) {
+        List<Object> rows = new ArrayList<>();
+        rows.add(List.of(component(customWidgets > 0 ? WIDGET_PREFIX + 0 : "pbText", id)));
+        if (nestedFragmentId != null) {
+            rows.add(List.of(fragmentElement(nestedFragmentId)));
+        }
+        var fragment = artifact(id, "fragment");
+        fragment.put("rows", rows);
+        fragment.put("assets", List.of());
+        fragment.put("variables", Map.of());
+        return fragment;
+    }
+
+    private Map<String, Object> widget(String id) {
+        var widget = artifact(id, "widget");
+        widget.put("custom", true);
+        widget.put("template", "<div ng-class=\"properties.cssClasses\">{{ properties.text | uiTranslate }}</div>");
+        widget.put("controller", "function ($scope) {\n"
+                + "    // keep a comment so that minification has something to remove\n"
+                + "    var ctrl = this;\n"
+                + "    ctrl.format = function (value) {\n"
+                + "        return value ? String(value).trim() : '';\n"
+                + "    };\n"
+                + "}");
+        widget.put("properties", List.of(Map.of("label", "Text", "name", "text", "type", "text",
+                "bond", "interpolation")));
+        widget.put("assets", List.of());
+        return widget;
+    }
+
+    private Map<String, Object> component(String widgetId, String text) {
+        var component = element("component", widgetId);
+        Map<String, Object> propertyValues = new LinkedHashMap<>();
+        propertyValues.put("cssClasses", Map.of("type", "constant", "value", ""));
+        propertyValues.put("hidden", Map.of("type", "constant", "value", false));
+        propertyValues.put("text", Map.of("type", "interpolation", "value", text));
+        component.put("propertyValues", propertyValues);
+        return component;
+    }
+
+    private Map<String, Object> fragmentElement(String fragmentId) {
+        var fragment = element("fragment", fragmentId);
+        fragment.put("propertyValues", Map.of("cssClasses", Map.of("type", "constant", "value", "")));
+        fragment.put("binding", Map.of());
+        return fragment;
+    }
+
+    private Map<String, Object> element(String type, String id) {
+        Map<String, Object> element = new LinkedHashMap<>();
+        element.put("type", type);
+        element.put("id", id);
+        element.put("reference", UUID.randomUUID().toString());
+        element.put("dimension", Map.of("xs", 12, "sm", 12, "md", 12, "lg", 12));
+        return element;
+    }
+
+    private Map<String, Object> artifact(String id, String type) {
+        Map<String, Object> artifact = new LinkedHashMap<>();
+        artifact.put("modelVersion", artifactVersion);
+        artifact.put("id", id);
+        artifact.put("name", id);
+        artifact.put("type", type);
+        artifact.put("lastUpdate", 1700000000000L);
+        return artifact;
+    }
+}
@@ -0,0 +1,134 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.web.angularjs.GeneratorProperties;
+import org.bonitasoft.web.designer.ArtifactBuilder;
+import org.bonitasoft.web.designer.ArtifactBuilderFactory;
+import org.bonitasoft.web.designer.UiDesignerCore;
+import org.bonitasoft.web.designer.UiDesignerCoreFactory;
+import org.bonitasoft.web.designer.config.UiDesignerProperties;
+import org.bonitasoft.web.designer.config.UiDesignerPropertiesBuilder;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.bonitasoft.web.designer.model.page.Page;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A synthetic workspace, generated in a temporary folder, and the artifact builder working on it.
+ */
+@State(Scope.Benchmark)
+public class WorkspaceState {
+
+    @Param({ "10", "100" })
+    public int pages;
+
+    @Param({ "20" })
+    public int components;
+
+    @Param({ "5" })
+    public int customWidgets;
+
+    @Param({ "3" })
+    public int fragmentDepth;
+
+    @Param({ "0" })
+    public int artifactCacheSize;
+
+    @Param({ "1" })
+    public int loadingParallelism;
+
+    @Param({ "true" })
+    public boolean htmlNormalization;
+
+    private Path folder;
+    private UiDesignerProperties properties;
+    private SyntheticWorkspace workspace;
+    private UiDesignerCore core;
+    private ArtifactBuilder artifactBuilder;
+    private Page page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        folder = Files.createTempDirectory("uid-benchmark");
+        var propertiesBuilder = new UiDesignerPropertiesBuilder()
+                .workspacePath(folder.resolve("project"))
+                .workspaceUidPath(folder.resolve("uid"))
+                .artifactCacheSize(artifactCacheSize)
+                .loadingParallelism(loadingParallelism)
+                .disableLiveBuild();
+        if (!htmlNormalization) {
+            propertiesBuilder.disableHtmlNormalization();
+        }
+        properties = propertiesBuilder.build();
+        workspace = createWorkspace(properties.getModelVersion());
+        workspace.generate(properties);
+
+        JsonHandler jsonHandler = new JsonHandlerFactory().create();
+        var generatorProperties = new GeneratorProperties(properties.getWorkspaceUid().getPath());
+        generatorProperties.setLiveBuildEnabled(false);
+        core = new UiDesignerCoreFactory(properties, generatorProperties, jsonHandler).create();
+        artifactBuilder = new ArtifactBuilderFactory(properties, generatorProperties, jsonHandler, core).create();
+        page = core.getPageRepository().get(getPageId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(folder.toFile());
+    }
+
+    public SyntheticWorkspace createWorkspace(String artifactVersion) {
+        return new SyntheticWorkspace(pages, components, customWidgets, fragmentDepth, artifactVersion);
+    }
+
+    public UiDesignerProperties getProperties() {
+        return properties;
+    }
+
+    public SyntheticWorkspace getWorkspace() {
+        return workspace;
+    }
+
+    public UiDesignerCore getCore() {
+        return core;
+    }
+
+    public ArtifactBuilder getArtifactBuilder() {
+        return artifactBuilder;
+    }
+
+    /**
+     * @return the id of a page of the workspace
+     */
+    public String getPageId() {
+        return workspace.getPageIds().get(0);
+    }
+
+    public Page getPage() {
+        return page;
+    }
+}
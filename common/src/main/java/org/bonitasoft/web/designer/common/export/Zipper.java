@@ -46,6 +46,15 @@ public void addToZip(byte[] bytes, String destFilename) throws IOException {
         zip.closeEntry();
     }
 
+    /**
+     * Adds an entry which content is written by the given writer straight into the zip
+     */
+    public void addToZip(EntryWriter entryWriter, String destFilename) throws IOException {
+        zip.putNextEntry(new ZipEntry(destFilename));
+        entryWriter.write(zip);
+        zip.closeEntry();
+    }
+
     public void addToZip(Path path, String destFilename) throws IOException {
         byte[] bytes = Files.readAllBytes(path);
         addToZip(bytes, destFilename);
@@ -106,4 +115,12 @@ public interface FilePredicate {
 
         boolean accept(File file);
     }
+
+    public interface EntryWriter {
+
+        /**
+         * Write the content of the entry. The given stream must not be closed.
+         */
+        void write(OutputStream out) throws IOException;
+    }
 }
@@ -16,6 +16,9 @@
  */
 package org.bonitasoft.web.designer.common.generator.rendering;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.page.Previewable;
@@ -28,4 +31,12 @@ <P extends Previewable & Identifiable> String generateHtml(P previewable)
     <P extends Previewable & Identifiable> String generateHtml(P previewable, String resourceContext)
             throws NotFoundException, RuntimeException;
 
+    /**
+     * Write the html of the previewable to the given writer, which is neither flushed nor closed
+     */
+    default <P extends Previewable & Identifiable> void generateHtml(P previewable, String resourceContext,
+            Writer writer) throws IOException {
+        writer.write(generateHtml(previewable, resourceContext));
+    }
+
 }
@@ -0,0 +1,155 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.instrumentation;
+
+import static java.lang.String.format;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Instrumentation} aggregating the events of each phase in memory, in a histogram of durations with power of
+ * two buckets. Percentiles are therefore approximated by the upper bound of their bucket.
+ */
+public class HistogramInstrumentation implements Instrumentation {
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String phase, long durationNanos, long bytes) {
+        histograms.computeIfAbsent(phase, p -> new Histogram()).record(durationNanos, bytes);
+    }
+
+    /**
+     * Histograms of the phases recorded so far, by phase name
+     */
+    public Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Histogram of the given phase, empty if the phase has not been recorded
+     */
+    public Histogram getHistogram(String phase) {
+        return histograms.getOrDefault(phase, new Histogram());
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Table of the recorded phases, one phase per line with durations in milliseconds
+     */
+    public String summary() {
+        var summary = new StringBuilder(format("%-40s %8s %12s %10s %10s %10s %10s %12s%n",
+                "phase", "count", "total", "mean", "p50", "p99", "max", "bytes"));
+        getHistograms().forEach((phase, histogram) -> summary.append(format(
+                "%-40s %8d %12.3f %10.3f %10.3f %10.3f %10.3f %12d%n",
+                phase,
+                histogram.getCount(),
+                millis(histogram.getTotal()),
+                millis(histogram.getMean()),
+                millis(histogram.getPercentile(0.5)),
+                millis(histogram.getPercentile(0.99)),
+                millis(histogram.getMax()),
+                histogram.getBytes())));
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+
+    /**
+     * Durations and sizes recorded for a phase. Bucket <code>i</code> counts the durations needing <code>i</code>
+     * bits, i.e. lower than <code>2^i</code> nanoseconds.
+     */
+    public static class Histogram {
+
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void record(long durationNanos, long size) {
+            var duration = Math.max(durationNanos, 0);
+            buckets.incrementAndGet(Math.min(BUCKETS - Long.numberOfLeadingZeros(duration), BUCKETS - 1));
+            count.increment();
+            total.add(duration);
+            bytes.add(size);
+            max.accumulate(duration);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public Duration getTotal() {
+            return Duration.ofNanos(total.sum());
+        }
+
+        public Duration getMean() {
+            var occurrences = getCount();
+            return occurrences == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / occurrences);
+        }
+
+        public Duration getMax() {
+            return Duration.ofNanos(max.get());
+        }
+
+        /**
+         * Total size of the data handled by the phase
+         */
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        /**
+         * Duration under which the given ratio of the occurrences fall, e.g. 0.99 for the 99th percentile
+         */
+        public Duration getPercentile(double ratio) {
+            var occurrences = getCount();
+            if (occurrences == 0) {
+                return Duration.ZERO;
+            }
+            var rank = (long) Math.ceil(ratio * occurrences);
+            var seen = 0L;
+            for (var i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Duration.ofNanos(Math.min(i == 0 ? 0 : (1L << i) - 1, max.get()));
+                }
+            }
+            return getMax();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.instrumentation;
+
+/**
+ * Receives the duration and the size of the data handled by each phase of html generation and artifact export.
+ * Implementations are called concurrently from generation and export threads, and should be cheap, since they are
+ * called on every phase of every generation.
+ */
+@FunctionalInterface
+public interface Instrumentation {
+
+    /**
+     * Instrumentation ignoring every event
+     */
+    Instrumentation NONE = (phase, durationNanos, bytes) -> {
+    };
+
+    /** Loading of an artifact from its repository */
+    String ARTIFACT_LOAD = "artifact.load";
+    /** Check of the migration status of an artifact */
+    String STATUS_CHECK = "artifact.status";
+    /** Prefix of the passes of visitors over the element tree, followed by the visitor name */
+    String VISITOR = "visitor.";
+    /** Application of a template, which includes the rendering of the html written by the template */
+    String TEMPLATE = "template";
+    /** Concatenation of widget directives */
+    String CONCAT = "directives.concat";
+    /** Minification of a widget directive */
+    String MINIFY = "directives.minify";
+    /** SHA-1 of a widget directive or of a bundle of directives */
+    String HASH = "directives.hash";
+    /** Prefix of the export steps, followed by the step name */
+    String EXPORT_STEP = "export.";
+    /** Completion of an export zip */
+    String ZIP_FINISH = "export.zip";
+
+    /**
+     * Record an occurrence of a phase
+     *
+     * @param phase name of the phase
+     * @param durationNanos duration of the phase, in nanoseconds
+     * @param bytes size of the data produced by the phase, 0 when it is not known
+     */
+    void record(String phase, long durationNanos, long bytes);
+
+    /**
+     * Start timing an occurrence of the given phase, which is recorded when the returned timer is stopped
+     */
+    default Timer start(String phase) {
+        return new Timer(this, phase);
+    }
+
+    final class Timer {
+
+        private final Instrumentation instrumentation;
+        private final String phase;
+        private final long start = System.nanoTime();
+
+        private Timer(Instrumentation instrumentation, String phase) {
+            this.instrumentation = instrumentation;
+            this.phase = phase;
+        }
+
+        public void stop() {
+            stop(0);
+        }
+
+        public void stop(long bytes) {
+            instrumentation.record(phase, System.nanoTime() - start, bytes);
+        }
+    }
+}
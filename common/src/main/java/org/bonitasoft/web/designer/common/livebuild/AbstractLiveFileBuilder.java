@@ -24,6 +24,9 @@
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 
@@ -38,14 +41,25 @@ protected AbstractLiveFileBuilder(Watcher watcher, boolean isLiveBuildEnabled) {
     }
 
     public void start(final Path root) throws IOException {
+        start(root, null);
+    }
+
+    /**
+     * Build every buildable file under root, concurrently on the given pool if any, then watch for changes.
+     *
+     * @param pool may be null for a sequential build
+     */
+    public void start(final Path root, ForkJoinPool pool) throws IOException {
+        List<Path> paths = new ArrayList<>();
         walkFileTree(root, new SimpleFileVisitor<>() {
 
             @Override
             public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) throws IOException {
-                buildIfNeeded(path);
+                paths.add(path);
                 return CONTINUE;
             }
         });
+        ParallelTasks.forEach(pool, paths, this::buildIfNeeded);
         if (isLiveBuildEnabled) {
             // now on build on change
             watcher.watch(root, this::buildIfNeeded);
@@ -0,0 +1,57 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.livebuild;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Apply an action on independent items, either sequentially or fanned out over a work stealing pool.
+ */
+public final class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Apply the action on each item. Items are processed sequentially, in order, when no pool is given. Otherwise they
+     * are processed concurrently on the pool and the first failure, if any, is rethrown once every item has been
+     * processed.
+     *
+     * @param pool may be null
+     */
+    public static <T> void forEach(ForkJoinPool pool, List<T> items, Consumer<T> action) {
+        if (pool == null || items.size() < 2) {
+            items.forEach(action);
+            return;
+        }
+        var failure = new AtomicReference<RuntimeException>();
+        pool.invoke(ForkJoinTask.adapt(() -> items.parallelStream().forEach(item -> {
+            try {
+                action.accept(item);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        })));
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+}
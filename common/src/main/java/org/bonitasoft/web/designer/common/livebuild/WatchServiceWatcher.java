@@ -0,0 +1,261 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.livebuild;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Watcher} relying on the native file system notifications ({@link WatchService}) instead of polling.
+ * <p>
+ * Watched directories are registered recursively, including directories created afterwards. Events received for a
+ * same file are coalesced until no new event occurs during the debounce delay, so listeners are notified once per
+ * burst of writes. As with the polling watcher, listeners are notified on file creation and on modification of non
+ * empty files.
+ * </p>
+ */
+public class WatchServiceWatcher extends Watcher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchServiceWatcher.class);
+
+    /** Pending events are flushed after this many debounce delays even if the file system never gets quiet */
+    private static final int MAX_DEBOUNCE_ROUNDS = 10;
+
+    private final WatchService watchService;
+    private final long debounceDelay;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    // only accessed by the dispatcher thread
+    private final Set<Path> pending = new LinkedHashSet<>();
+    private final Set<Path> created = new HashSet<>();
+    private long pendingSince;
+
+    public WatchServiceWatcher(long debounceDelay) throws IOException {
+        this(FileSystems.getDefault().newWatchService(), debounceDelay);
+    }
+
+    WatchServiceWatcher(WatchService watchService, long debounceDelay) {
+        this.watchService = watchService;
+        this.debounceDelay = debounceDelay;
+        var dispatcher = new Thread(this::dispatch, "watch-service-watcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public void watch(Path path, final PathListener listener) {
+        registrations.add(new Registration(path, listener));
+        register(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Register a directory so that changes under any watched path are received. When the watched path does not
+     * exist yet, its closest existing parent is registered to be notified of its creation.
+     */
+    private void register(Path directory) {
+        try {
+            if (Files.isDirectory(directory)) {
+                registerTree(directory);
+            } else if (directory.getParent() != null) {
+                register(directory.getParent(), directory);
+            }
+        } catch (IOException | ClosedWatchServiceException e) {
+            logger.warn("Unable to watch directory {}", directory, e);
+        }
+    }
+
+    private void register(Path parent, Path missing) throws IOException {
+        if (Files.isDirectory(parent)) {
+            registerDirectory(parent);
+            // directory may have been created in the meantime
+            if (Files.isDirectory(missing)) {
+                registerTree(missing);
+            }
+        } else if (parent.getParent() != null) {
+            register(parent.getParent(), parent);
+        }
+    }
+
+    private void registerTree(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                registerDirectory(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void registerDirectory(Path directory) throws IOException {
+        directories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY), directory);
+    }
+
+    private void dispatch() {
+        try {
+            while (true) {
+                var key = pending.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(nextFlushDelay(), TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    flush();
+                } else {
+                    collect(key);
+                    if (nextFlushDelay() <= 0) {
+                        flush();
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Watch service closed, stop watching files");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long nextFlushDelay() {
+        var elapsed = System.currentTimeMillis() - pendingSince;
+        return Math.min(debounceDelay, debounceDelay * MAX_DEBOUNCE_ROUNDS - elapsed);
+    }
+
+    private void collect(WatchKey key) {
+        var directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                logger.warn("Some file system events have been lost while watching {}", directory);
+            } else if (directory != null) {
+                var path = directory.resolve((Path) event.context());
+                if (Files.isDirectory(path)) {
+                    if (event.kind() == ENTRY_CREATE) {
+                        directoryCreated(path);
+                    }
+                } else {
+                    addPending(path, event.kind() == ENTRY_CREATE);
+                }
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    private void directoryCreated(Path directory) {
+        for (Registration registration : registrations) {
+            if (directory.startsWith(registration.root)) {
+                register(directory);
+                addExistingFiles(directory);
+                return;
+            } else if (registration.root.startsWith(directory)) {
+                register(registration.root);
+                if (Files.isDirectory(registration.root)) {
+                    addExistingFiles(registration.root);
+                }
+            }
+        }
+    }
+
+    /**
+     * Files may have been created in a new directory before it has been registered
+     */
+    private void addExistingFiles(Path directory) {
+        try (var files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile).forEach(file -> addPending(file, true));
+        } catch (IOException e) {
+            logger.warn("Unable to list files of created directory {}", directory, e);
+        }
+    }
+
+    private void addPending(Path file, boolean isCreation) {
+        if (pending.isEmpty()) {
+            pendingSince = System.currentTimeMillis();
+        }
+        pending.add(file);
+        if (isCreation) {
+            created.add(file);
+        }
+    }
+
+    private void flush() {
+        for (Path file : pending) {
+            if (Files.isRegularFile(file) && (created.contains(file) || sizeOf(file) > 0L)) {
+                registrations.stream()
+                        .filter(registration -> file.startsWith(registration.root))
+                        .forEach(registration -> triggerChange(file, registration.listener));
+            }
+        }
+        pending.clear();
+        created.clear();
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void triggerChange(Path file, PathListener listener) {
+        try {
+            listener.onChange(file);
+        } catch (Exception e) {
+            logger.error("Unexpected exception while processing file {}", file, e);
+        }
+    }
+
+    private static class Registration {
+
+        private final Path root;
+        private final PathListener listener;
+
+        private Registration(Path root, PathListener listener) {
+            this.root = root;
+            this.listener = listener;
+        }
+    }
+}
@@ -31,6 +31,13 @@ public Watcher(ObserverFactory observerFactory, FileAlterationMonitor monitor) {
         this.monitor = monitor;
     }
 
+    /**
+     * Used by watchers which do not rely on an apache common file monitor
+     */
+    protected Watcher() {
+        this(null, null);
+    }
+
     public void watch(Path path, final PathListener listener) {
         FileAlterationObserver observer = observerFactory.create(path, listener);
         monitor.addObserver(observer);
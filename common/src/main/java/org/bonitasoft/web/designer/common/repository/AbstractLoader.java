@@ -30,6 +30,15 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -53,12 +62,41 @@
     private static final Logger logger = LoggerFactory.getLogger(AbstractLoader.class);
     private final Class<T> type;
     protected JsonHandler jsonHandler;
+    private int parallelism = 1;
+    private ExecutorService executor;
 
     protected AbstractLoader(JsonHandler jsonHandler, Class<T> type) {
         this.jsonHandler = jsonHandler;
         this.type = type;
     }
 
+    /**
+     * Number of threads used to read the descriptors of a directory in {@link #getAll(Path)} and
+     * {@link #loadAll(Path)}. Descriptors are read one after the other on the calling thread when 1. Otherwise the
+     * threads are created once and shared by all the readings of this loader, until {@link #close()} is called.
+     */
+    public synchronized void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Loading parallelism must be greater than 0");
+        }
+        close();
+        this.parallelism = parallelism;
+        if (parallelism > 1) {
+            executor = Executors.newFixedThreadPool(parallelism, threadFactory());
+        }
+    }
+
+    /**
+     * Stop the threads reading descriptors concurrently, if any. Descriptors are then read on the calling thread.
+     */
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        parallelism = 1;
+    }
+
     public T get(Path path) {
         try {
             var artifact = jsonHandler.fromJson(readAllBytes(path), type);
@@ -103,21 +141,77 @@ public List<T> getAll(Path directory) throws IOException {
 
     protected List<T> getAll(Path directory, String glob) throws IOException {
         List<T> objects = new ArrayList<>();
-
+        List<String> ids;
         try (DirectoryStream<Path> directoryStream = newDirectoryStream(directory, glob)) {
-            for (Path path : directoryStream) {
-                String id = getComponentId(path);
-                java.util.Optional<T> e = tryGet(directory.resolve(format("%s/%s.json", id, id)));
-                if (e.isPresent()) {
-                    objects.add(e.get());
-                } else {
-                    logger.error("{} {} cannot be loaded, your repository may be corrupted", type.getSimpleName(), id);
-                }
+            ids = getComponentIds(directoryStream);
+        }
+        var loaded = readAll(ids, id -> tryGet(directory.resolve(format("%s/%s.json", id, id))));
+        for (var i = 0; i < ids.size(); i++) {
+            var e = loaded.get(i);
+            if (e.isPresent()) {
+                objects.add(e.get());
+            } else {
+                logger.error("{} {} cannot be loaded, your repository may be corrupted", type.getSimpleName(),
+                        ids.get(i));
             }
         }
         return objects;
     }
 
+    private List<String> getComponentIds(DirectoryStream<Path> directoryStream) {
+        List<String> ids = new ArrayList<>();
+        for (Path path : directoryStream) {
+            ids.add(getComponentId(path));
+        }
+        return ids;
+    }
+
+    /**
+     * Read the components with the given ids, concurrently when a parallelism greater than 1 is configured. Results
+     * are returned in the order of the ids whatever the order in which they are read.
+     */
+    private <R> List<R> readAll(List<String> ids, Function<String, R> reader) {
+        var executor = this.executor;
+        if (executor == null || ids.size() < 2) {
+            List<R> results = new ArrayList<>();
+            ids.forEach(id -> results.add(reader.apply(id)));
+            return results;
+        }
+        List<Future<R>> futures = new ArrayList<>();
+        try {
+            for (var id : ids) {
+                futures.add(executor.submit((Callable<R>) () -> reader.apply(id)));
+            }
+            List<R> results = new ArrayList<>();
+            for (var future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RepositoryException(format("Loading of %ss has been interrupted", type.getSimpleName()), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RepositoryException(format("Error while loading %ss", type.getSimpleName()), e.getCause());
+        } catch (RejectedExecutionException e) {
+            throw new RepositoryException(format("Loader of %ss has been closed", type.getSimpleName()), e);
+        } finally {
+            // the remaining readings are useless once one failed
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private ThreadFactory threadFactory() {
+        var count = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, type.getSimpleName() + "-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     @Override
     public String getNextAvailableObjectId(Path directory, String objectName) throws IOException {
         if (!Files.exists(directory.resolve(objectName))) {
@@ -180,11 +274,6 @@ public List<T> loadAll(Path directory, DirectoryStream.Filter<Path> filter) thro
     }
 
     private List<T> loadAll(Path directory, DirectoryStream<Path> directoryStream) {
-        List<T> objects = new ArrayList<>();
-        for (Path path : directoryStream) {
-            String id = getComponentId(path);
-            objects.add(load(resolve(directory, id)));
-        }
-        return objects;
+        return readAll(getComponentIds(directoryStream), id -> load(resolve(directory, id)));
     }
 }
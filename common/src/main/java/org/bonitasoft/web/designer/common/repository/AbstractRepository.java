@@ -27,8 +27,11 @@
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -36,8 +39,11 @@
 import org.bonitasoft.web.designer.common.livebuild.Watcher;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.repository.BeanValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * File based repository
@@ -46,6 +52,8 @@
  */
 public abstract class AbstractRepository<T extends Identifiable> implements Repository<T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(AbstractRepository.class);
+
     private final Watcher watcher;
 
     private final Path templatePath;
@@ -58,6 +66,14 @@
 
     protected Loader<T> loader;
 
+    protected ArtifactCache<T> cache;
+
+    protected ReferenceIndex<T> referenceIndex;
+
+    protected SummaryStore<T> summaryStore;
+
+    protected IdAllocator<T> idAllocator;
+
     protected AbstractRepository(Path path, JsonFileBasedPersister<T> persister, Loader<T> loader,
             BeanValidator validator, Watcher watcher, Path templatePath) {
         this.path = path;
@@ -73,8 +89,13 @@ public T get(String id) throws NotFoundException, RepositoryException {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Id can not be null when loading a component");
         }
+        var descriptor = path.resolve(format("%s/%s.json", id, id));
         try {
-            return loader.get(path.resolve(format("%s/%s.json", id, id)));
+            if (cache == null) {
+                return loader.get(descriptor);
+            }
+            return cache.get(id, descriptor, path.resolve(PageRepository.METADATA).resolve(id + ".json"),
+                    getSourceFiles(id), () -> loader.get(descriptor));
         } catch (NoSuchFileException e) {
             throw new NotFoundException(format("Non existing %s [%s]", getComponentName(), id));
         } catch (IOException e) {
@@ -82,6 +103,77 @@ public T get(String id) throws NotFoundException, RepositoryException {
         }
     }
 
+    /**
+     * Files a component is read from besides its descriptor and its metadata file, none by default
+     */
+    protected List<Path> getSourceFiles(String id) {
+        return List.of();
+    }
+
+    /**
+     * Keep parsed components in the given cache. Cached entries are dropped when the component is saved or deleted
+     * through this repository, and when a file of the component changes on disk.
+     */
+    public void useCache(ArtifactCache<T> cache) {
+        this.cache = cache;
+        persister.addListener(cache);
+        watcher.watch(path, this::invalidateCache);
+    }
+
+    private void invalidateCache(Path changedFile) {
+        if (!changedFile.startsWith(path) || changedFile.equals(path)) {
+            cache.invalidateAll();
+            return;
+        }
+        var relativePath = path.relativize(changedFile);
+        var id = relativePath.getName(0).toString();
+        if (PageRepository.METADATA.equals(id) && relativePath.getNameCount() > 1) {
+            id = relativePath.getName(1).toString().replaceAll("\\.json$", "");
+        }
+        cache.invalidate(id);
+    }
+
+    /**
+     * Look for the components using an object in the given index instead of reading the whole repository. The index
+     * is updated when a component is saved or deleted through this repository, and when a component descriptor
+     * changes on disk.
+     */
+    public void useReferenceIndex(ReferenceIndex<T> referenceIndex) {
+        this.referenceIndex = referenceIndex;
+        persister.addListener(referenceIndex);
+        if (loader instanceof JsonFileBasedLoader) {
+            ((JsonFileBasedLoader<T>) loader).useReferenceIndex(referenceIndex);
+        }
+        watcher.watch(path, this::refreshReferences);
+    }
+
+    /**
+     * Rebuild the reference index, if any, from the component descriptors
+     */
+    public void refreshReferences() {
+        if (referenceIndex == null) {
+            return;
+        }
+        try {
+            referenceIndex.rebuild();
+        } catch (IOException e) {
+            logger.error("Cannot refresh {} references indexing.", getComponentName(), e);
+        }
+    }
+
+    private void refreshReferences(Path changedFile) throws IOException {
+        if (!changedFile.startsWith(path)) {
+            return;
+        }
+        var relativePath = path.relativize(changedFile);
+        if (relativePath.getNameCount() == 2) {
+            var id = relativePath.getName(0).toString();
+            if (relativePath.getFileName().toString().equals(id + ".json")) {
+                referenceIndex.refresh(id);
+            }
+        }
+    }
+
     @Override
     public T getByUUID(String uuid) throws RepositoryException {
         try {
@@ -108,6 +200,37 @@ public List<T> getAll() throws RepositoryException {
         }
     }
 
+    /**
+     * Keep the summaries of the components in the given store, so that listing them does not read every component.
+     * Summaries are updated when a component is saved or deleted through this repository, and read again when a
+     * component changes on disk.
+     */
+    public synchronized void useSummaryStore(SummaryStore<T> summaryStore) {
+        this.summaryStore = summaryStore;
+        persister.addListener(summaryStore);
+    }
+
+    /**
+     * Summaries of all the components, without their status
+     */
+    public List<ArtifactSummary> getSummaries() throws RepositoryException {
+        try {
+            return getSummaryStore().getAll();
+        } catch (IOException e) {
+            throw new RepositoryException(format("Error while getting %s summaries", getComponentName()), e);
+        }
+    }
+
+    /**
+     * Summary store of the repository, created with the json handler of the persister when none was given
+     */
+    private synchronized SummaryStore<T> getSummaryStore() {
+        if (summaryStore == null) {
+            useSummaryStore(new SummaryStore<>(persister.getJsonHandler(), path, getComponentName()));
+        }
+        return summaryStore;
+    }
+
     @Override
     public T updateLastUpdateAndSave(T component) throws RepositoryException {
         component.setLastUpdate(Instant.now());
@@ -120,15 +243,18 @@ public T save(T component) throws RepositoryException {
             throw new IllegalArgumentException(format("Error while saving %s: No id set.", getComponentName()));
         }
 
-        validator.validate(component);
-        createComponentDirectory(component);
-
         try {
+            validator.validate(component);
+            createComponentDirectory(component);
             persister.save(resolvePathFolder(component.getId()), component);
             return component;
         } catch (IOException e) {
+            releaseId(component.getId());
             throw new RepositoryException(format("Error while saving %s [%s]", getComponentName(), component.getId()),
                     e);
+        } catch (RuntimeException e) {
+            releaseId(component.getId());
+            throw e;
         }
     }
 
@@ -144,6 +270,9 @@ public void saveAll(List<T> toBeSaved) throws RepositoryException {
     @Override
     public List<T> findByObjectId(String id) throws RepositoryException {
         try {
+            if (referenceIndex != null) {
+                return getExisting(referenceIndex.findReferencing(id));
+            }
             return loader.findByObjectId(path, id);
         } catch (IOException e) {
             throw new RepositoryException(format("Error while searching %ss using an object", getComponentName()), e);
@@ -153,12 +282,48 @@ public List<T> findByObjectId(String id) throws RepositoryException {
     @Override
     public Map<String, List<T>> findByObjectIds(List<String> ids) throws RepositoryException {
         try {
+            if (referenceIndex != null) {
+                Map<String, T> components = new HashMap<>();
+                Map<String, List<T>> map = new HashMap<>();
+                for (var entry : referenceIndex.findReferencing(ids).entrySet()) {
+                    List<T> objects = new ArrayList<>();
+                    for (var componentId : entry.getValue()) {
+                        var component = components.computeIfAbsent(componentId, this::getIfExists);
+                        if (component != null) {
+                            objects.add(component);
+                        }
+                    }
+                    if (!objects.isEmpty()) {
+                        map.put(entry.getKey(), objects);
+                    }
+                }
+                return map;
+            }
             return loader.findByObjectIds(path, ids);
         } catch (IOException e) {
             throw new RepositoryException(format("Error while searching %ss using an object", getComponentName()), e);
         }
     }
 
+    private List<T> getExisting(Set<String> ids) {
+        List<T> objects = new ArrayList<>();
+        for (var id : ids) {
+            var component = getIfExists(id);
+            if (component != null) {
+                objects.add(component);
+            }
+        }
+        return objects;
+    }
+
+    private T getIfExists(String id) {
+        try {
+            return get(id);
+        } catch (NotFoundException e) {
+            return null;
+        }
+    }
+
     @Override
     public Path resolvePath(String id) {
         return path.resolve(id);
@@ -238,15 +403,34 @@ public T unmarkAsFavorite(String id) {
         return save(component);
     }
 
+    /**
+     * Allocate the ids of new components with the given allocator instead of listing the repository each time. The
+     * allocator is kept up to date when a component is saved or deleted through this repository.
+     */
+    public void useIdAllocator(IdAllocator<T> idAllocator) {
+        this.idAllocator = idAllocator;
+        persister.addListener(idAllocator);
+    }
+
     @Override
     public String getNextAvailableId(String name) {
         try {
+            if (idAllocator != null) {
+                return idAllocator.next(name);
+            }
             return loader.getNextAvailableObjectId(path, name);
         } catch (IOException e) {
             throw new RepositoryException("Failed to generate object ID", e);
         }
     }
 
+    @Override
+    public void releaseId(String id) {
+        if (idAllocator != null) {
+            idAllocator.release(id);
+        }
+    }
+
     public JsonFileBasedPersister<T> getPersister() {
         return persister;
     }
@@ -0,0 +1,236 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.exists;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.bonitasoft.web.designer.model.DesignerArtifact;
+import org.bonitasoft.web.designer.model.Identifiable;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded, least recently used, cache of parsed components.
+ * An entry is only served while the component descriptor, its metadata file and the other files it is read from keep
+ * the size and the last modified time they had when the component was loaded. Callers always get their own copy of the cached component, so that
+ * modifying it can not corrupt the cache.
+ */
+public class ArtifactCache<T extends Identifiable> implements PersistenceListener<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactCache.class);
+
+    private final JsonHandler jsonHandler;
+    private final Map<String, CachedArtifact<T>> entries;
+
+    public ArtifactCache(JsonHandler jsonHandler, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Artifact cache size must be greater than 0");
+        }
+        this.jsonHandler = jsonHandler;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedArtifact<T>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get a copy of the cached component if it is still up to date, otherwise load it and cache it.
+     *
+     * @param id the component id
+     * @param descriptor the component json descriptor
+     * @param metadata the component metadata file, which may not exist
+     * @param loader how to load the component when it is not cached or stale
+     */
+    public T get(String id, Path descriptor, Path metadata, ArtifactLoader<T> loader) throws IOException {
+        return get(id, descriptor, metadata, List.of(), loader);
+    }
+
+    /**
+     * Same as {@link #get(String, Path, Path, ArtifactLoader)} for a component also read from other files, like the
+     * template of a widget. The cached component is loaded again when one of these files changes.
+     *
+     * @param files other files the component is read from, which may not exist
+     */
+    public T get(String id, Path descriptor, Path metadata, List<Path> files, ArtifactLoader<T> loader)
+            throws IOException {
+        var stamp = stamp(descriptor, metadata, files);
+        if (stamp == null) {
+            invalidate(id);
+            return loader.load();
+        }
+        var cached = lookup(id, stamp);
+        if (cached != null) {
+            try {
+                return copy(cached);
+            } catch (IOException e) {
+                logger.warn("Cannot copy cached {}, it will be reloaded", id, e);
+                invalidate(id);
+            }
+        }
+        var artifact = loader.load();
+        try {
+            store(id, new CachedArtifact<>(stamp, copy(artifact)));
+        } catch (IOException e) {
+            logger.warn("Cannot cache {}", id, e);
+        }
+        return artifact;
+    }
+
+    public synchronized void invalidate(String id) {
+        entries.remove(id);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void onSave(Path directory, T component) {
+        invalidate(component.getId());
+    }
+
+    @Override
+    public void onDelete(Path directory, T component) {
+        invalidate(component.getId());
+    }
+
+    private synchronized T lookup(String id, Stamp stamp) {
+        var entry = entries.get(id);
+        return entry != null && entry.stamp.equals(stamp) ? entry.artifact : null;
+    }
+
+    private synchronized void store(String id, CachedArtifact<T> entry) {
+        entries.put(id, entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copy(T artifact) throws IOException {
+        var copy = jsonHandler.deepCopy(artifact, (Class<T>) artifact.getClass());
+        if (artifact instanceof DesignerArtifact) {
+            // read from legacy descriptors but never written, so it is not part of the serialized form
+            ((DesignerArtifact) copy).setDesignerVersion(((DesignerArtifact) artifact).getDesignerVersion());
+        }
+        return copy;
+    }
+
+    private Stamp stamp(Path descriptor, Path metadata, List<Path> files) throws IOException {
+        List<FileStamp> fileStamps = new ArrayList<>();
+        try {
+            fileStamps.add(new FileStamp(Files.readAttributes(descriptor, BasicFileAttributes.class)));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        fileStamps.add(stampIfExists(metadata));
+        for (var file : files) {
+            fileStamps.add(stampIfExists(file));
+        }
+        return new Stamp(fileStamps);
+    }
+
+    private FileStamp stampIfExists(Path file) throws IOException {
+        try {
+            return exists(file) ? new FileStamp(Files.readAttributes(file, BasicFileAttributes.class)) : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ArtifactLoader<T> {
+
+        T load() throws IOException;
+    }
+
+    private static class CachedArtifact<T> {
+
+        private final Stamp stamp;
+        private final T artifact;
+
+        CachedArtifact(Stamp stamp, T artifact) {
+            this.stamp = stamp;
+            this.artifact = artifact;
+        }
+    }
+
+    /**
+     * Stamps of the descriptor, of the metadata file and of the other files of a component, null when a file does not
+     * exist
+     */
+    private static class Stamp {
+
+        private final List<FileStamp> files;
+
+        Stamp(List<FileStamp> files) {
+            this.files = files;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Stamp && files.equals(((Stamp) obj).files);
+        }
+
+        @Override
+        public int hashCode() {
+            return files.hashCode();
+        }
+    }
+
+    private static class FileStamp {
+
+        private final FileTime time;
+        private final long size;
+
+        FileStamp(BasicFileAttributes attributes) {
+            this.time = attributes.lastModifiedTime();
+            this.size = attributes.size();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileStamp)) {
+                return false;
+            }
+            var other = (FileStamp) obj;
+            return size == other.size && time.equals(other.time);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(time, size);
+        }
+    }
+}
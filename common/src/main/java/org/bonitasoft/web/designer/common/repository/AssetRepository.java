@@ -36,6 +36,7 @@
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.designer.common.repository.exception.NotAllowedException;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
@@ -54,13 +55,23 @@
 
     public static final String COMPONENT_ID_REQUIRED = "The component id is required to add an asset to this component";
     public static final String ASSETS = "assets";
+    public static final String ASSET_HASHES = ".assets";
 
     private final Repository<T> repository;
     private final BeanValidator validator;
+    private final FileHashStore hashStore;
 
     public AssetRepository(Repository<T> repository, BeanValidator validator) {
+        this(repository, validator, null);
+    }
+
+    /**
+     * @param hashStore keeps the hash of the assets between two renderings, may be null to always compute it again
+     */
+    public AssetRepository(Repository<T> repository, BeanValidator validator, FileHashStore hashStore) {
         this.repository = repository;
         this.validator = validator;
+        this.hashStore = hashStore;
     }
 
     protected Path resolveComponentPath(String componentId) {
@@ -100,7 +111,9 @@ public void save(Asset asset, byte[] content) throws IOException {
         if (!exists(parent.resolve(ASSETS).resolve(asset.getType().getPrefix()))) {
             createDirectories(parent.resolve(ASSETS).resolve(asset.getType().getPrefix()));
         }
-        write(resolveAssetPath(asset), content);
+        var path = resolveAssetPath(asset);
+        write(path, content);
+        updateHash(path, content);
     }
 
     /**
@@ -111,7 +124,9 @@ public void save(String componentId, Asset asset, byte[] content) throws IOExcep
         if (!exists(assetDirectory)) {
             createDirectories(assetDirectory);
         }
-        write(assetDirectory.resolve(asset.getName()), content);
+        var path = assetDirectory.resolve(asset.getName());
+        write(path, content);
+        updateHash(path, content);
     }
 
     private Path resolveAssetDirectory(String componentId, Asset asset) {
@@ -123,7 +138,17 @@ private Path resolveAssetDirectory(String componentId, Asset asset) {
      */
     public void delete(Asset asset) throws IOException {
         requireNonNull(asset.getComponentId(), COMPONENT_ID_REQUIRED);
-        Files.delete(resolveExistingAssetPath(asset));
+        var path = resolveExistingAssetPath(asset);
+        Files.delete(path);
+        if (hashStore != null) {
+            hashStore.remove(path);
+        }
+    }
+
+    private void updateHash(Path path, byte[] content) throws IOException {
+        if (hashStore != null) {
+            hashStore.update(path, content);
+        }
     }
 
     /**
@@ -142,6 +167,28 @@ public byte[] readAllBytes(String componentId, Asset asset) throws IOException {
         return Files.readAllBytes(resolveExistingAssetPath(componentId, asset));
     }
 
+    /**
+     * Return the SHA-1 of the resource content. The content is only read when the resource changed since its hash was
+     * last computed.
+     */
+    public String getHash(Asset asset) throws IOException {
+        requireNonNull(asset.getComponentId(), COMPONENT_ID_REQUIRED);
+        return hash(resolveExistingAssetPath(asset));
+    }
+
+    /**
+     * Return the SHA-1 of the resource content. The content is only read when the resource changed since its hash was
+     * last computed.
+     */
+    public String getHash(String componentId, Asset asset) throws IOException {
+        requireNonNull(componentId, COMPONENT_ID_REQUIRED);
+        return hash(resolveExistingAssetPath(componentId, asset));
+    }
+
+    private String hash(Path path) throws IOException {
+        return hashStore == null ? DigestUtils.sha1Hex(Files.readAllBytes(path)) : hashStore.getHash(path);
+    }
+
     /**
      * Return the asset path used by a component
      *
@@ -0,0 +1,111 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write behind of the repository metadata files (uuid indexes, file hashes, references, ...), so that the many changes
+ * of a save, an import or an export write a metadata file once. A changed metadata is flushed at most
+ * {@link #getDelay()} milliseconds after its first pending change, and every pending metadata is flushed on
+ * {@link #close()}, which is called when the designer stops.
+ */
+public class DeferredWrites implements Closeable {
+
+    public static final long DEFAULT_DELAY_MS = 1000;
+
+    private static final Logger logger = LoggerFactory.getLogger(DeferredWrites.class);
+
+    private final long delay;
+    private final ScheduledExecutorService executor;
+    private final Set<Flushable> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public DeferredWrites() {
+        this(DEFAULT_DELAY_MS);
+    }
+
+    public DeferredWrites(long delay) {
+        this.delay = delay;
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            var thread = new Thread(task, "metadata-writes");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public long getDelay() {
+        return delay;
+    }
+
+    /**
+     * Flush the given metadata later, unless it is already pending. Once closed, it is flushed right away.
+     */
+    public void schedule(Flushable metadata) throws IOException {
+        if (closed) {
+            metadata.flush();
+        } else if (pending.add(metadata)) {
+            executor.schedule(() -> flush(metadata), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Whether the given metadata has changes waiting to be flushed
+     */
+    public boolean isPending(Flushable metadata) {
+        return pending.contains(metadata);
+    }
+
+    /**
+     * Flush every pending metadata now, without waiting for their scheduled write
+     */
+    public void flush() {
+        for (var metadata : pending) {
+            flush(metadata);
+        }
+    }
+
+    /**
+     * Flush every pending metadata and stop the scheduled writes
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        flush();
+    }
+
+    private void flush(Flushable metadata) {
+        if (pending.remove(metadata)) {
+            try {
+                metadata.flush();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Cannot write metadata {}", metadata, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.readAttributes;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.web.designer.model.Identifiable;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keep the SHA-1 of files of a repository (assets, descriptors, ...), with the size and the last modification time of
+ * the file it was computed from. The store is saved in the repository metadata folder, so a file is read again to
+ * compute its hash only when it has been changed since.
+ * <p>
+ * Hashes are kept in memory and the store is written later by the given {@link DeferredWrites}, so that hashing the
+ * many files of a page or an export writes it once. Entries of deleted files are dropped through {@link #remove(Path)}
+ * and {@link #removeAll(Path)}, see {@link #deletionListener()}.
+ */
+public class FileHashStore implements Flushable, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileHashStore.class);
+
+    private final JsonHandler jsonHandler;
+    private final Path directory;
+    private final Path storePath;
+    private final DeferredWrites deferredWrites;
+
+    /** file path, relative to the repository directory -> [size, last modification time, hash] */
+    private Map<String, List<Object>> hashes;
+    private boolean dirty;
+
+    /**
+     * @param directory the repository directory
+     * @param name name of the store file in the repository metadata folder
+     */
+    public FileHashStore(JsonHandler jsonHandler, Path directory, String name) {
+        this(jsonHandler, directory, name, null);
+    }
+
+    /**
+     * @param directory the repository directory
+     * @param name name of the store file in the repository metadata folder
+     * @param deferredWrites writes the store later, null to write it on each change
+     */
+    public FileHashStore(JsonHandler jsonHandler, Path directory, String name, DeferredWrites deferredWrites) {
+        this.jsonHandler = jsonHandler;
+        this.directory = directory;
+        this.storePath = directory.resolve(PageRepository.METADATA).resolve(name + ".json");
+        this.deferredWrites = deferredWrites;
+    }
+
+    /**
+     * SHA-1 of a file, computed again only when the file size or last modification time changed
+     */
+    public synchronized String getHash(Path file) throws IOException {
+        ensureLoaded();
+        var key = keyOf(file);
+        var attributes = readAttributes(file, BasicFileAttributes.class);
+        var entry = hashes.get(key);
+        if (entry != null && isUpToDate(entry, attributes)) {
+            return (String) entry.get(2);
+        }
+        var hash = DigestUtils.sha1Hex(readAllBytes(file));
+        put(key, attributes, hash);
+        return hash;
+    }
+
+    /**
+     * Store the hash of a file which has just been written with the given content
+     */
+    public synchronized void update(Path file, byte[] content) throws IOException {
+        ensureLoaded();
+        put(keyOf(file), readAttributes(file, BasicFileAttributes.class), DigestUtils.sha1Hex(content));
+    }
+
+    /**
+     * Compute again and store the hash of a file which has just been written
+     */
+    public synchronized void update(Path file) throws IOException {
+        ensureLoaded();
+        put(keyOf(file), readAttributes(file, BasicFileAttributes.class), DigestUtils.sha1Hex(readAllBytes(file)));
+    }
+
+    /**
+     * Forget the hash of a deleted file
+     */
+    public synchronized void remove(Path file) throws IOException {
+        ensureLoaded();
+        if (hashes.remove(keyOf(file)) != null) {
+            changed();
+        }
+    }
+
+    /**
+     * Forget the hashes of the files of a deleted folder
+     */
+    public synchronized void removeAll(Path folder) throws IOException {
+        ensureLoaded();
+        var prefix = keyOf(folder) + "/";
+        if (hashes.keySet().removeIf(key -> key.startsWith(prefix))) {
+            changed();
+        }
+    }
+
+    /**
+     * Listener forgetting the hashes of the files of the components deleted by a persister
+     */
+    public <T extends Identifiable> PersistenceListener<T> deletionListener() {
+        return new PersistenceListener<>() {
+
+            @Override
+            public void onDelete(Path componentDirectory, T component) throws IOException {
+                removeAll(componentDirectory);
+            }
+        };
+    }
+
+    /**
+     * Write the store now if it changed, without waiting for the scheduled write
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        FileUtils.forceMkdir(storePath.getParent().toFile());
+        var tmp = storePath.resolveSibling(storePath.getFileName() + ".tmp");
+        write(tmp, jsonHandler.toJson(hashes));
+        Files.move(tmp, storePath, REPLACE_EXISTING, ATOMIC_MOVE);
+        dirty = false;
+    }
+
+    /**
+     * Write the pending changes of the store
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    @Override
+    public String toString() {
+        return storePath.toString();
+    }
+
+    private void put(String key, BasicFileAttributes attributes, String hash) throws IOException {
+        hashes.put(key, List.of(attributes.size(), attributes.lastModifiedTime().toMillis(), hash));
+        changed();
+    }
+
+    private void changed() throws IOException {
+        dirty = true;
+        if (deferredWrites == null) {
+            flush();
+        } else {
+            deferredWrites.schedule(this);
+        }
+    }
+
+    private boolean isUpToDate(List<Object> entry, BasicFileAttributes attributes) {
+        return entry.size() == 3
+                && ((Number) entry.get(0)).longValue() == attributes.size()
+                && ((Number) entry.get(1)).longValue() == attributes.lastModifiedTime().toMillis();
+    }
+
+    private String keyOf(Path file) {
+        return directory.relativize(file).toString().replace('\\', '/');
+    }
+
+    @SuppressWarnings("unchecked")
+    private void ensureLoaded() {
+        if (hashes != null) {
+            return;
+        }
+        hashes = new TreeMap<>();
+        if (!exists(storePath)) {
+            return;
+        }
+        try {
+            for (var entry : jsonHandler.fromJsonToComplexMap(readAllBytes(storePath)).entrySet()) {
+                hashes.put(entry.getKey(), (List<Object>) entry.getValue());
+            }
+        } catch (NoSuchFileException e) {
+            // deleted meanwhile, hashes will be computed again
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Cannot read file hashes [{}], they will be computed again.", storePath);
+            hashes.clear();
+        }
+    }
+}
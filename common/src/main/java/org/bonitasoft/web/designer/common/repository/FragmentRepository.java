@@ -16,20 +16,31 @@
  */
 package org.bonitasoft.web.designer.common.repository;
 
+import static java.lang.String.format;
+import static java.nio.file.Files.readAllBytes;
 import static java.util.stream.Collectors.toList;
 
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.designer.common.livebuild.Watcher;
+import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
+import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
 import org.bonitasoft.web.designer.model.fragment.Fragment;
 import org.bonitasoft.web.designer.repository.BeanValidator;
 
 public class FragmentRepository extends AbstractRepository<Fragment> implements WidgetContainerRepository<Fragment> {
 
+    public static final String DESCRIPTOR_HASHES = ".descriptors";
+
+    private FileHashStore descriptorHashes;
+
     public FragmentRepository(
             Path fragmentsPath,
             Path templateResourcesPath,
@@ -81,6 +92,45 @@ public Map<String, List<Fragment>> getArtifactsUsingWidgets(List<String> widgetI
         return this.findByObjectIds(widgetIds);
     }
 
+    /**
+     * Keep fragment hashes in the given store. Hashes are updated when a fragment is saved or deleted through this
+     * repository, and computed again when a fragment descriptor changed on disk.
+     */
+    public void useHashStore(FileHashStore hashStore) {
+        this.descriptorHashes = hashStore;
+        persister.addListener(new PersistenceListener<>() {
+
+            @Override
+            public void onSave(Path directory, Fragment fragment) throws IOException {
+                hashStore.update(persister.jsonFile(directory, fragment.getId()));
+            }
+
+            @Override
+            public void onDelete(Path directory, Fragment fragment) throws IOException {
+                hashStore.remove(persister.jsonFile(directory, fragment.getId()));
+            }
+        });
+    }
+
+    /**
+     * Fingerprint of a fragment: the SHA-1 of its stored descriptor, read again only when it changed since its hash
+     * was computed, the fragment itself is not loaded. New hashes are written with the store in a batch, so collecting
+     * the directives of a page does not write the store once per fragment.
+     *
+     * @throws NotFoundException when the fragment does not exist
+     */
+    public String getHash(String id) throws NotFoundException, RepositoryException {
+        var descriptor = persister.jsonFile(resolvePathFolder(id), id);
+        try {
+            return descriptorHashes == null ? DigestUtils.sha1Hex(readAllBytes(descriptor))
+                    : descriptorHashes.getHash(descriptor);
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException(format("Non existing %s [%s]", getComponentName(), id));
+        } catch (IOException e) {
+            throw new RepositoryException(format("Error while hashing %s [%s]", getComponentName(), id), e);
+        }
+    }
+
     public List<Fragment> getByIds(Set<String> fragmentsId) {
         List<Fragment> result = new ArrayList<>();
         for (var fragmentId : fragmentsId) {
@@ -0,0 +1,169 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.isDirectory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.bonitasoft.web.designer.model.Identifiable;
+
+/**
+ * Allocate ids to new components of a repository without listing its directory each time.
+ * <p>
+ * The ids of the repository are listed once, then kept up to date when components are saved or deleted. The highest
+ * numeric suffix used after a name is computed the first time the name is requested, then updated as ids are added.
+ * An allocated id is reserved until the component is saved, so that concurrent creations get different ids, or until
+ * it is released because the creation failed or was aborted. As files may be changed by other tools, an id is never
+ * allocated when its folder exists.
+ */
+public class IdAllocator<T extends Identifiable> implements PersistenceListener<T> {
+
+    private final Path directory;
+
+    private Set<String> ids;
+    private final Set<String> reserved = new HashSet<>();
+    private final Map<String, Long> maxSuffixes = new HashMap<>();
+
+    /**
+     * @param directory the repository directory
+     */
+    public IdAllocator(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Allocate an id for a component with the given name. The name is used as is when no component uses it, otherwise
+     * it is followed by the next available number.
+     */
+    public synchronized String next(String name) throws IOException {
+        ensureLoaded();
+        String id = name;
+        if (reserved.contains(id) || exists(directory.resolve(id))) {
+            var suffix = maxSuffixes.computeIfAbsent(name, this::maxSuffix);
+            do {
+                id = name + ++suffix;
+            } while (exists(directory.resolve(id)));
+        }
+        reserved.add(id);
+        add(id);
+        return id;
+    }
+
+    /**
+     * Give back an allocated id which component has not been saved, so that it can be allocated again
+     */
+    public synchronized void release(String id) {
+        if (ids != null && reserved.remove(id) && !exists(directory.resolve(id))) {
+            forget(id);
+        }
+    }
+
+    @Override
+    public synchronized void onSave(Path componentDirectory, T component) {
+        if (ids != null) {
+            reserved.remove(component.getId());
+            add(component.getId());
+        }
+    }
+
+    @Override
+    public synchronized void onDelete(Path componentDirectory, T component) {
+        if (ids != null) {
+            reserved.remove(component.getId());
+            forget(component.getId());
+        }
+    }
+
+    private void forget(String id) {
+        if (ids.remove(id)) {
+            // names which highest suffix was the one of the forgotten id are computed again when needed
+            forEachSuffix(id, (name, suffix) -> maxSuffixes.remove(name, suffix));
+        }
+    }
+
+    private void add(String id) {
+        if (ids.add(id)) {
+            forEachSuffix(id,
+                    (name, suffix) -> maxSuffixes.computeIfPresent(name, (key, max) -> Math.max(max, suffix)));
+        }
+    }
+
+    private long maxSuffix(String name) {
+        var max = 0L;
+        for (var id : ids) {
+            if (id.length() > name.length() && id.startsWith(name)) {
+                max = Math.max(max, suffix(id.substring(name.length())));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Call the consumer for each way of splitting the id into a name followed by a number, e.g. (form, 12) and
+     * (form1, 2) for form12
+     */
+    private static void forEachSuffix(String id, SuffixConsumer consumer) {
+        for (var i = id.length() - 1; i > 0 && Character.isDigit(id.charAt(i)); i--) {
+            var suffix = suffix(id.substring(i));
+            if (suffix > 0) {
+                consumer.accept(id.substring(0, i), suffix);
+            }
+        }
+    }
+
+    /**
+     * @return the number made of the given digits, 0 when it is not a number
+     */
+    private static long suffix(String digits) {
+        if (digits.isEmpty() || digits.length() > 18 || !digits.chars().allMatch(Character::isDigit)) {
+            return 0;
+        }
+        return Long.parseLong(digits);
+    }
+
+    private void ensureLoaded() throws IOException {
+        if (ids != null) {
+            return;
+        }
+        var existingIds = new HashSet<String>();
+        if (exists(directory)) {
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "[!.]*")) {
+                for (Path path : directoryStream) {
+                    if (isDirectory(path)) {
+                        existingIds.add(path.getFileName().toString());
+                    }
+                }
+            }
+        }
+        ids = existingIds;
+    }
+
+    @FunctionalInterface
+    private interface SuffixConsumer {
+
+        void accept(String name, long suffix);
+    }
+}
@@ -47,9 +47,30 @@
 
     protected Class<T> type;
 
+    private final UuidIndexes uuidIndexes;
+
+    private ReferenceIndex<T> referenceIndex;
+
     public JsonFileBasedLoader(JsonHandler jsonHandler, Class<T> type) {
+        this(jsonHandler, type, null);
+    }
+
+    /**
+     * @param uuidIndexes indexes by UUID shared with the persister of the same repository, UUIDs are looked up in the
+     *        index files when null
+     */
+    public JsonFileBasedLoader(JsonHandler jsonHandler, Class<T> type, UuidIndexes uuidIndexes) {
         super(jsonHandler, type);
         this.type = type;
+        this.uuidIndexes = uuidIndexes;
+    }
+
+    /**
+     * Tell whether an object is referenced with the given index instead of reading the descriptors of the directory it
+     * indexes. The index only knows the objects referenced as the value of an <code>"id"</code> property.
+     */
+    public void useReferenceIndex(ReferenceIndex<T> referenceIndex) {
+        this.referenceIndex = referenceIndex;
     }
 
     @Override
@@ -104,11 +125,11 @@ public Map<String, List<T>> findByObjectIds(Path directory, List<String> objectI
 
     @Override
     public T getByUUID(Path directory, String uuid) throws IOException {
-        var indexPath = directory.resolve(".metadata/.index.json");
-        if (indexPath.toFile().exists()) {
-            var indexFileContent = readAllBytes(indexPath);
-            var index = jsonHandler.fromJsonToMap(indexFileContent);
-            var objectId = index.get(uuid);
+        var metadataPath = directory.resolve(PageRepository.METADATA);
+        var indexPath = metadataPath.resolve(UuidIndex.INDEX_FILE);
+        if (uuidIndexes != null || indexPath.toFile().exists()) {
+            var objectId = uuidIndexes != null ? uuidIndexes.get(metadataPath).get(uuid)
+                    : UuidIndex.read(jsonHandler, metadataPath).get(uuid);
             if (objectId != null) {
                 var componentFile = directory.resolve(format("%s/%s.json", objectId, objectId));
                 if (componentFile.toFile().exists()) {
@@ -123,19 +144,26 @@ public T getByUUID(Path directory, String uuid) throws IOException {
 
     @Override
     public boolean contains(Path directory, String objectId) throws IOException {
+        if (referenceIndex != null && referenceIndex.indexes(directory)) {
+            return referenceIndex.isReferenced(objectId);
+        }
+        if (!exists(directory)) {
+            return false;
+        }
         //Object can be of type <E>
         var objectPath = resolve(directory, objectId);
+        var searched = objectId.getBytes(StandardCharsets.UTF_8);
 
-        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "*")) {
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "[!.]*")) {
             for (Path componentDirectory : directoryStream) {
                 //The directory name is the component id
                 var id = componentDirectory.getFileName().toString();
                 var componentFile = componentDirectory.resolve(id + ".json");
 
                 //We consider only another objects
-                if (objectPath == null || !objectPath.equals(componentFile)) {
+                if (exists(componentFile) && (objectPath == null || !objectPath.equals(componentFile))) {
                     var content = readAllBytes(componentFile);
-                    if (indexOf(content, objectId.getBytes(StandardCharsets.UTF_8)) >= 0) {
+                    if (indexOf(content, searched) >= 0) {
                         return true;
                     }
                 }
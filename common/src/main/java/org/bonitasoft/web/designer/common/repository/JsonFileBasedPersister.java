@@ -17,15 +17,14 @@
 package org.bonitasoft.web.designer.common.repository;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.write;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -39,8 +38,6 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonGenerationException;
-
 /**
  * This Persister is used to manage the persistence logic for a component. Each of them are serialized in a json file
  */
@@ -52,13 +49,28 @@
     protected BeanValidator validator;
     protected String version;
     protected String modelVersion;
+    private final List<PersistenceListener<T>> listeners = new CopyOnWriteArrayList<>();
+    private final UuidIndexes uuidIndexes;
 
     public JsonFileBasedPersister(JsonHandler jsonHandler, BeanValidator validator,
             String version, String modelVersion) {
+        this(jsonHandler, validator, version, modelVersion, new UuidIndexes(jsonHandler));
+    }
+
+    /**
+     * @param uuidIndexes indexes by UUID, to be shared with the loader of the same repository
+     */
+    public JsonFileBasedPersister(JsonHandler jsonHandler, BeanValidator validator,
+            String version, String modelVersion, UuidIndexes uuidIndexes) {
         this.jsonHandler = jsonHandler;
         this.validator = validator;
         this.version = version;
         this.modelVersion = modelVersion;
+        this.uuidIndexes = uuidIndexes;
+    }
+
+    public JsonHandler getJsonHandler() {
+        return jsonHandler;
     }
 
     /**
@@ -87,6 +99,7 @@ public void save(Path directory, T content) throws IOException {
                 //update index used by the studio to find artifacts given their UUID
                 saveInIndex(metadataPath, content);
             }
+            notifySaved(directory, content);
         } catch (RuntimeException e) {
             //Jackson can sent Runtime exception. We change this one to IO because this exception is caught higher
             throw new IOException(e);
@@ -100,47 +113,13 @@ public Path updateMetadata(Path directory, T content) throws IOException {
         return metadataPath;
     }
 
-    public synchronized void saveInIndex(Path metadataPath, T content) throws IOException {
-        var indexPath = jsonFile(metadataPath, INDEX_METADATA);
-        var index = loadIndex(indexPath);
-        try {
-            if (getUUIDIfExist(content) != null) {
-                index.put(getUUIDIfExist(content), content.getId());
-            }
-            writeIndexFile(indexPath, index);
-        } catch (JsonGenerationException e) {
-            logger.error("Cannot generate index for file {}. Maybe a migration is required.", content.getId());
-        }
-    }
-
-    private synchronized void writeIndexFile(Path indexPath, Map<String, String> index) throws IOException {
-        try {
-            if (!indexPath.getParent().toFile().exists()) {
-                FileUtils.forceMkdir(indexPath.getParent().toFile());
-            }
-            write(indexPath, jsonHandler.toJson(index));
-        } catch (JsonGenerationException e) {
-            logger.error("Cannot generate index. Maybe a migration is required.");
+    public void saveInIndex(Path metadataPath, T content) throws IOException {
+        var uuid = getUUIDIfExist(content);
+        if (uuid != null) {
+            uuidIndexes.get(metadataPath).put(uuid, content.getId());
         }
     }
 
-    private synchronized Map<String, String> loadIndex(Path indexPath) throws IOException {
-        Map<String, String> index = new HashMap<>();
-        if (indexPath.toFile().exists()) {
-            byte[] indexFileContent = readAllBytes(indexPath);
-            try {
-                index = jsonHandler.fromJsonToMap(indexFileContent);
-            } catch (Exception e) {
-                if (indexFileContent.length > 0) { //file is not empty and cannot be parsed
-                    logger.error("Failed to parse '{}' file with content:\n{}",
-                            indexPath, new String(indexFileContent, StandardCharsets.UTF_8), e);
-                }
-                //else file is empty, ignore exception
-            }
-        }
-        return index;
-    }
-
     private String getUUIDIfExist(T content) {
         var uuid = ((HasUUID) content).getUUID();
         if (uuid != null && !uuid.isEmpty()) {
@@ -150,19 +129,8 @@ private String getUUIDIfExist(T content) {
     }
 
     protected void removeFromIndex(Path metadataPath, T content) throws IOException {
-        var indexPath = jsonFile(metadataPath, INDEX_METADATA);
-        Map<String, String> index;
-        if (indexPath.toFile().exists()) {
-            var indexFileContent = readAllBytes(indexPath);
-            index = jsonHandler.fromJsonToMap(indexFileContent);
-            var uuidInIndex = ((HasUUID) content).getUUID();
-            var idInIndex = index.get(uuidInIndex);
-            //only remove from index if the ID bound to the UUID matches the id of the content to delete
-            if (content.getId().equals(idInIndex)) {
-                index.remove(uuidInIndex);
-            }
-            write(indexPath, jsonHandler.toJson(index));
-        }
+        //only remove from index if the ID bound to the UUID matches the id of the content to delete
+        uuidIndexes.get(metadataPath).remove(((HasUUID) content).getUUID(), content.getId());
     }
 
     /**
@@ -179,18 +147,37 @@ public void delete(Path directory, T content) throws IOException {
                 //update index used by the studio to find artifacts given their UUID
                 removeFromIndex(metadataPath, content);
             }
+            notifyDeleted(directory, content);
         } catch (RuntimeException e) {
             //Jackson can sent Runtime exception. We change this one to IO because this exception is caught higher
             throw new IOException(e);
         }
     }
 
+    /**
+     * Register a listener notified each time a component is saved or deleted by this persister
+     */
+    public void addListener(PersistenceListener<T> listener) {
+        listeners.add(listener);
+    }
+
+    protected void notifySaved(Path directory, T content) throws IOException {
+        for (var listener : listeners) {
+            listener.onSave(directory, content);
+        }
+    }
+
+    protected void notifyDeleted(Path directory, T content) throws IOException {
+        for (var listener : listeners) {
+            listener.onDelete(directory, content);
+        }
+    }
+
     public Path jsonFile(Path directory, String id) {
         return directory.resolve(id + ".json");
     }
 
-    public synchronized void refreshIndexing(Path metadataFolder, List<T> pages) throws IOException {
-        var indexPath = jsonFile(metadataFolder, INDEX_METADATA);
+    public void refreshIndexing(Path metadataFolder, List<T> pages) throws IOException {
         Map<String, String> refreshingIndex = new HashMap<>();
         pages.forEach(page -> {
             String uuidIfExist = getUUIDIfExist(page);
@@ -198,6 +185,6 @@ public synchronized void refreshIndexing(Path metadataFolder, List<T> pages) thr
                 refreshingIndex.put(uuidIfExist, page.getId());
             }
         });
-        writeIndexFile(indexPath, refreshingIndex);
+        uuidIndexes.get(metadataFolder).replaceAll(refreshingIndex);
     }
 }
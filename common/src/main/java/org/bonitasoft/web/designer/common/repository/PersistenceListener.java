@@ -0,0 +1,48 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.bonitasoft.web.designer.model.Identifiable;
+
+/**
+ * Notified by a {@link JsonFileBasedPersister} once a component has been written to or removed from its directory.
+ */
+public interface PersistenceListener<T extends Identifiable> {
+
+    /**
+     * Called once the component descriptor and its metadata have been written
+     *
+     * @param directory the component directory
+     * @param component the saved component
+     */
+    default void onSave(Path directory, T component) throws IOException {
+        // nothing to do by default
+    }
+
+    /**
+     * Called once the component directory and its metadata have been deleted
+     *
+     * @param directory the component directory
+     * @param component the deleted component
+     */
+    default void onDelete(Path directory, T component) throws IOException {
+        // nothing to do by default
+    }
+}
@@ -0,0 +1,270 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.web.designer.model.Identifiable;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Keep, for each component of a repository, the ids of the objects (widgets, fragments, ...) it references. The index
+ * is stored in the repository metadata folder and kept up to date by the persister, so finding the components which
+ * use an object does not require to read the whole repository.
+ * <p>
+ * A component references an object when its descriptor contains an <code>"id"</code> property with the object id as
+ * value, which is what the text search of {@link JsonFileBasedLoader#findByObjectIds(Path, List)} looks for.
+ * <p>
+ * The index file is written later by the given {@link DeferredWrites}, so saving many components writes it once. An
+ * index file missing changes not written before the designer stopped is outdated only until the components are saved
+ * again; it is rebuilt when it does not exist or cannot be read.
+ */
+public class ReferenceIndex<T extends Identifiable> implements PersistenceListener<T>, Flushable {
+
+    public static final String REFERENCES_METADATA = ".references";
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceIndex.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonHandler jsonHandler;
+    private final Path directory;
+    private final Path indexPath;
+    private final DeferredWrites deferredWrites;
+
+    /** component id -> ids referenced by the component */
+    private Map<String, Set<String>> references;
+    /** object id -> ids of the components referencing it */
+    private Map<String, Set<String>> referencedBy;
+    private boolean dirty;
+
+    public ReferenceIndex(JsonHandler jsonHandler, Path directory) {
+        this(jsonHandler, directory, null);
+    }
+
+    /**
+     * @param directory the repository directory
+     * @param deferredWrites writes the index file later, null to write it on each change
+     */
+    public ReferenceIndex(JsonHandler jsonHandler, Path directory, DeferredWrites deferredWrites) {
+        this.jsonHandler = jsonHandler;
+        this.directory = directory;
+        this.indexPath = directory.resolve(PageRepository.METADATA).resolve(REFERENCES_METADATA + ".json");
+        this.deferredWrites = deferredWrites;
+    }
+
+    /**
+     * Ids of the components referencing the given object, the object itself excepted
+     */
+    public synchronized Set<String> findReferencing(String objectId) throws IOException {
+        ensureLoaded();
+        return new TreeSet<>(referencedBy.getOrDefault(objectId, Set.of()));
+    }
+
+    /**
+     * Whether a component references the given object, the object itself excepted
+     */
+    public synchronized boolean isReferenced(String objectId) throws IOException {
+        ensureLoaded();
+        var componentIds = referencedBy.get(objectId);
+        return componentIds != null && !componentIds.isEmpty();
+    }
+
+    /**
+     * Whether this index is the one of the components stored in the given directory
+     */
+    public boolean indexes(Path repositoryDirectory) {
+        return directory.equals(repositoryDirectory);
+    }
+
+    /**
+     * Ids of the components referencing each of the given objects. Objects not referenced are not part of the result.
+     */
+    public synchronized Map<String, Set<String>> findReferencing(Collection<String> objectIds) throws IOException {
+        ensureLoaded();
+        Map<String, Set<String>> result = new HashMap<>();
+        for (var objectId : objectIds) {
+            var componentIds = referencedBy.get(objectId);
+            if (componentIds != null && !componentIds.isEmpty()) {
+                result.put(objectId, new TreeSet<>(componentIds));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read again all the component descriptors of the repository and write the resulting index
+     */
+    public synchronized void rebuild() throws IOException {
+        references = new TreeMap<>();
+        referencedBy = new HashMap<>();
+        if (exists(directory)) {
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "[!.]*")) {
+                for (Path componentDirectory : directoryStream) {
+                    var id = componentDirectory.getFileName().toString();
+                    var descriptor = componentDirectory.resolve(id + ".json");
+                    if (exists(descriptor)) {
+                        index(id, descriptor);
+                    }
+                }
+            }
+        }
+        changed();
+    }
+
+    /**
+     * Index again a component, or forget it when its descriptor does not exist anymore
+     */
+    public synchronized void refresh(String id) throws IOException {
+        ensureLoaded();
+        unindex(id);
+        var descriptor = directory.resolve(id).resolve(id + ".json");
+        if (exists(descriptor)) {
+            index(id, descriptor);
+        }
+        changed();
+    }
+
+    @Override
+    public void onSave(Path componentDirectory, T component) throws IOException {
+        refresh(component.getId());
+    }
+
+    @Override
+    public synchronized void onDelete(Path componentDirectory, T component) throws IOException {
+        ensureLoaded();
+        unindex(component.getId());
+        changed();
+    }
+
+    private void index(String id, Path descriptor) {
+        Set<String> ids;
+        try {
+            ids = readReferences(readAllBytes(descriptor));
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            logger.error("Cannot index references of [{}]. Maybe a migration is required.", descriptor, e);
+            return;
+        }
+        ids.remove(id);
+        references.put(id, ids);
+        ids.forEach(objectId -> referencedBy.computeIfAbsent(objectId, k -> new TreeSet<>()).add(id));
+    }
+
+    private void unindex(String id) {
+        var ids = references.remove(id);
+        if (ids != null) {
+            for (var objectId : ids) {
+                var componentIds = referencedBy.get(objectId);
+                componentIds.remove(id);
+                if (componentIds.isEmpty()) {
+                    referencedBy.remove(objectId);
+                }
+            }
+        }
+    }
+
+    private Set<String> readReferences(byte[] descriptor) throws IOException {
+        Set<String> ids = new TreeSet<>();
+        try (var parser = JSON_FACTORY.createParser(descriptor)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "id".equals(parser.getCurrentName())
+                        && parser.nextToken() == JsonToken.VALUE_STRING) {
+                    ids.add(parser.getText());
+                }
+            }
+        }
+        return ids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void ensureLoaded() throws IOException {
+        if (references != null) {
+            return;
+        }
+        if (!exists(indexPath)) {
+            rebuild();
+            return;
+        }
+        references = new TreeMap<>();
+        referencedBy = new HashMap<>();
+        try {
+            for (var entry : jsonHandler.fromJsonToComplexMap(readAllBytes(indexPath)).entrySet()) {
+                var ids = new TreeSet<>((List<String>) entry.getValue());
+                references.put(entry.getKey(), ids);
+                ids.forEach(objectId -> referencedBy.computeIfAbsent(objectId, k -> new TreeSet<>())
+                        .add(entry.getKey()));
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Cannot read reference index [{}], it will be rebuilt.", indexPath);
+            rebuild();
+        }
+    }
+
+    /**
+     * Write the index file now if the index changed, without waiting for the scheduled write
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        FileUtils.forceMkdir(indexPath.getParent().toFile());
+        var tmp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        write(tmp, jsonHandler.toJson(references));
+        Files.move(tmp, indexPath, REPLACE_EXISTING, ATOMIC_MOVE);
+        dirty = false;
+    }
+
+    @Override
+    public String toString() {
+        return indexPath.toString();
+    }
+
+    private void changed() throws IOException {
+        dirty = true;
+        if (deferredWrites == null) {
+            flush();
+        } else {
+            deferredWrites.schedule(this);
+        }
+    }
+}
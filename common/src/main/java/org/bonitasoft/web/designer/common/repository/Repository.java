@@ -120,6 +120,11 @@
 
     String getNextAvailableId(String name) throws IOException;
 
+    /**
+     * Give back an id returned by {@link #getNextAvailableId(String)} which component will not be saved
+     */
+    void releaseId(String id);
+
     /**
      * @param path
      * @return
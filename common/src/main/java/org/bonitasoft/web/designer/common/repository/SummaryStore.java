@@ -0,0 +1,307 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.readAttributes;
+import static java.nio.file.Files.write;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
+import org.bonitasoft.web.designer.model.Identifiable;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Keep the {@link ArtifactSummary} of each component of a repository, with the size and the last modification time of
+ * the descriptor and of the metadata file it was read from. The store is saved in the repository metadata folder, so
+ * listing the components only reads again those which changed since. Summaries are read by streaming over the
+ * descriptor, without deserializing the component.
+ * <p>
+ * Summaries are updated in memory when a component is saved, the store file is written when the components are
+ * listed. A summary missing from the store file is read again from its descriptor.
+ */
+public class SummaryStore<T extends Identifiable> implements PersistenceListener<T> {
+
+    public static final String SUMMARIES_METADATA = ".summaries";
+    private static final Logger logger = LoggerFactory.getLogger(SummaryStore.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonHandler jsonHandler;
+    private final Path directory;
+    private final Path storePath;
+    private final String defaultType;
+
+    private Map<String, Entry> entries;
+    private boolean changed;
+
+    /**
+     * @param directory the repository directory
+     * @param defaultType type of the components which descriptor has no type
+     */
+    public SummaryStore(JsonHandler jsonHandler, Path directory, String defaultType) {
+        this.jsonHandler = jsonHandler;
+        this.directory = directory;
+        this.storePath = directory.resolve(PageRepository.METADATA).resolve(SUMMARIES_METADATA + ".json");
+        this.defaultType = defaultType;
+    }
+
+    /**
+     * Summaries of all the components of the repository. Returned summaries are copies which can be modified.
+     */
+    public synchronized List<ArtifactSummary> getAll() throws IOException {
+        ensureLoaded();
+        List<ArtifactSummary> summaries = new ArrayList<>();
+        var ids = new HashSet<String>();
+        if (exists(directory)) {
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "[!.]*")) {
+                for (Path componentDirectory : directoryStream) {
+                    var id = componentDirectory.getFileName().toString();
+                    var entry = isDirectory(componentDirectory) ? getUpToDate(id) : null;
+                    if (entry != null) {
+                        ids.add(id);
+                        summaries.add(copy(entry.getSummary()));
+                    }
+                }
+            }
+        }
+        changed |= entries.keySet().retainAll(ids);
+        if (changed) {
+            store();
+        }
+        return summaries;
+    }
+
+    @Override
+    public synchronized void onSave(Path componentDirectory, T component) throws IOException {
+        ensureLoaded();
+        entries.remove(component.getId());
+        getUpToDate(component.getId());
+        changed = true;
+    }
+
+    @Override
+    public synchronized void onDelete(Path componentDirectory, T component) throws IOException {
+        ensureLoaded();
+        changed |= entries.remove(component.getId()) != null;
+    }
+
+    private Entry getUpToDate(String id) throws IOException {
+        var descriptor = directory.resolve(id).resolve(id + ".json");
+        var metadata = directory.resolve(PageRepository.METADATA).resolve(id + ".json");
+        var descriptorStamp = stamp(descriptor);
+        if (descriptorStamp == null) {
+            return null;
+        }
+        var metadataStamp = stamp(metadata);
+        var entry = entries.get(id);
+        if (entry != null && descriptorStamp.equals(entry.getDescriptor())
+                && Objects.equals(metadataStamp, entry.getMetadata())) {
+            return entry;
+        }
+        try {
+            entry = new Entry();
+            entry.setDescriptor(descriptorStamp);
+            entry.setMetadata(metadataStamp);
+            entry.setSummary(read(id, readAllBytes(descriptor), metadataStamp == null ? null : readAllBytes(metadata)));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.error("Cannot read summary of [{}], your repository may be corrupted", descriptor, e);
+            return null;
+        }
+        entries.put(id, entry);
+        changed = true;
+        return entry;
+    }
+
+    private ArtifactSummary read(String id, byte[] descriptor, byte[] metadata) throws IOException {
+        var summary = new ArtifactSummary();
+        String modelVersion = null;
+        String designerVersion = null;
+        try (var parser = JSON_FACTORY.createParser(descriptor)) {
+            var depth = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    depth++;
+                } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                    depth--;
+                } else if (token == JsonToken.FIELD_NAME) {
+                    var field = parser.getCurrentName();
+                    var value = parser.nextToken();
+                    if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                        depth++;
+                        continue;
+                    }
+                    if ("id".equals(field) && value == JsonToken.VALUE_STRING) {
+                        summary.getReferences().add(parser.getText());
+                    }
+                    if (depth == 1 && value != JsonToken.VALUE_NULL) {
+                        switch (field) {
+                            case "id":
+                                summary.setId(parser.getText());
+                                break;
+                            case "uuid":
+                                summary.setUuid(parser.getText());
+                                break;
+                            case "name":
+                                summary.setName(parser.getText());
+                                break;
+                            case "type":
+                                summary.setType(parser.getText());
+                                break;
+                            case "modelVersion":
+                                modelVersion = parser.getText();
+                                break;
+                            case "designerVersion":
+                                designerVersion = parser.getText();
+                                break;
+                            case "lastUpdate":
+                                summary.setLastUpdate(readInstant(parser, value));
+                                break;
+                            default:
+                                break;
+                        }
+                    }
+                }
+            }
+        }
+        if (summary.getId() == null) {
+            summary.setId(id);
+        }
+        summary.getReferences().remove(summary.getId());
+        if (summary.getType() == null) {
+            summary.setType(defaultType);
+        }
+        summary.setArtifactVersion(modelVersion != null ? modelVersion : designerVersion);
+        if (metadata != null) {
+            try {
+                summary.setFavorite(Boolean.TRUE.equals(jsonHandler.fromJsonToComplexMap(metadata).get("favorite")));
+            } catch (IOException e) {
+                logger.warn("Cannot read metadata of {}, it is not a valid Json file.", id);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Instants are written as epoch milliseconds, older descriptors may have decimal seconds or ISO-8601 text
+     */
+    private static Instant readInstant(JsonParser parser, JsonToken value) throws IOException {
+        switch (value) {
+            case VALUE_NUMBER_INT:
+                return Instant.ofEpochMilli(parser.getLongValue());
+            case VALUE_NUMBER_FLOAT:
+                var seconds = parser.getDecimalValue();
+                return Instant.ofEpochSecond(seconds.longValue(),
+                        seconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+            default:
+                return Instant.parse(parser.getText());
+        }
+    }
+
+    private static ArtifactSummary copy(ArtifactSummary summary) {
+        var copy = new ArtifactSummary();
+        copy.setId(summary.getId());
+        copy.setUuid(summary.getUuid());
+        copy.setName(summary.getName());
+        copy.setType(summary.getType());
+        copy.setLastUpdate(summary.getLastUpdate());
+        copy.setFavorite(summary.isFavorite());
+        copy.setArtifactVersion(summary.getArtifactVersion());
+        copy.setReferences(new TreeSet<>(summary.getReferences()));
+        return copy;
+    }
+
+    private static List<Long> stamp(Path file) throws IOException {
+        try {
+            var attributes = readAttributes(file, BasicFileAttributes.class);
+            return List.of(attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void ensureLoaded() {
+        if (entries != null) {
+            return;
+        }
+        entries = new TreeMap<>();
+        if (exists(storePath)) {
+            try {
+                entries.putAll(jsonHandler.fromJson(readAllBytes(storePath), Content.class).getSummaries());
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Cannot read summary store [{}], summaries will be read again.", storePath);
+                entries.clear();
+            }
+        }
+    }
+
+    private void store() throws IOException {
+        var content = new Content();
+        content.setSummaries(entries);
+        FileUtils.forceMkdir(storePath.getParent().toFile());
+        write(storePath, jsonHandler.toJson(content));
+        changed = false;
+    }
+
+    @Getter
+    @Setter
+    static class Content {
+
+        private Map<String, Entry> summaries = new TreeMap<>();
+    }
+
+    /**
+     * A summary, with the [size, last modification time] of the descriptor and of the metadata file it was read from
+     */
+    @Getter
+    @Setter
+    static class Entry {
+
+        private List<Long> descriptor;
+        private List<Long> metadata;
+        private ArtifactSummary summary;
+    }
+}
@@ -0,0 +1,197 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the artifacts of a repository by UUID, used by the studio to find artifacts given their UUID. The index is
+ * kept in memory. Each change is appended to a change log next to the index file, and the change log is compacted into
+ * the index file later by the given {@link DeferredWrites}, so a save does not rewrite the whole index. The index file
+ * is read by the studio: it is written right away when it does not exist, or when there are no deferred writes.
+ */
+public class UuidIndex implements Flushable {
+
+    public static final String INDEX_FILE = JsonFileBasedPersister.INDEX_METADATA + ".json";
+    public static final String CHANGE_LOG_FILE = JsonFileBasedPersister.INDEX_METADATA + ".log";
+    static final int MAX_CHANGES = 1000;
+
+    private static final Logger logger = LoggerFactory.getLogger(UuidIndex.class);
+
+    private final JsonHandler jsonHandler;
+    private final DeferredWrites deferredWrites;
+    private final Path indexFile;
+    private final Path changeLog;
+    private final Map<String, String> index = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private int changes;
+
+    public UuidIndex(JsonHandler jsonHandler, Path metadataPath) {
+        this(jsonHandler, metadataPath, null);
+    }
+
+    /**
+     * @param deferredWrites compacts the change log later, null to compact it on each change
+     */
+    public UuidIndex(JsonHandler jsonHandler, Path metadataPath, DeferredWrites deferredWrites) {
+        this.jsonHandler = jsonHandler;
+        this.deferredWrites = deferredWrites;
+        this.indexFile = metadataPath.resolve(INDEX_FILE);
+        this.changeLog = metadataPath.resolve(CHANGE_LOG_FILE);
+    }
+
+    /**
+     * Id of the artifact with the given UUID, null if there is none
+     */
+    public String get(String uuid) throws IOException {
+        load();
+        return uuid == null ? null : index.get(uuid);
+    }
+
+    public synchronized void put(String uuid, String id) throws IOException {
+        load();
+        if (!id.equals(index.put(uuid, id))) {
+            changed("+", uuid, id);
+        } else if (!Files.exists(indexFile)) {
+            compact();
+        }
+    }
+
+    /**
+     * Remove the given UUID from the index, only if it is bound to the given id
+     */
+    public synchronized void remove(String uuid, String id) throws IOException {
+        load();
+        if (uuid != null && index.remove(uuid, id)) {
+            changed("-", uuid, id);
+        }
+    }
+
+    /**
+     * Replace the whole index, which is written right away
+     */
+    public synchronized void replaceAll(Map<String, String> entries) throws IOException {
+        index.clear();
+        index.putAll(entries);
+        loaded = true;
+        compact();
+    }
+
+    /**
+     * Write the in memory index in the index file and clear the change log
+     */
+    public synchronized void compact() throws IOException {
+        load();
+        Files.createDirectories(indexFile.getParent());
+        var tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        Files.write(tmp, jsonHandler.toJson(new HashMap<>(index)));
+        Files.move(tmp, indexFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        Files.deleteIfExists(changeLog);
+        changes = 0;
+    }
+
+    /**
+     * Compact the change log in the index file if there are changes which are only in the change log
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (changes > 0) {
+            compact();
+        }
+    }
+
+    private void changed(String operation, String uuid, String id) throws IOException {
+        if (deferredWrites == null || !Files.exists(indexFile) || ++changes >= MAX_CHANGES) {
+            compact();
+            return;
+        }
+        Files.write(changeLog, String.join("\t", operation, uuid, id).concat("\n").getBytes(StandardCharsets.UTF_8),
+                CREATE, APPEND);
+        deferredWrites.schedule(this);
+    }
+
+    @Override
+    public String toString() {
+        return indexFile.toString();
+    }
+
+    private void load() throws IOException {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    index.putAll(read(jsonHandler, indexFile.getParent()));
+                    loaded = true;
+                    if (Files.exists(changeLog)) {
+                        compact();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the index of the given metadata folder from the index file and its change log, without keeping it
+     */
+    public static Map<String, String> read(JsonHandler jsonHandler, Path metadataPath) throws IOException {
+        var indexPath = metadataPath.resolve(INDEX_FILE);
+        Map<String, String> entries = new HashMap<>();
+        if (Files.exists(indexPath)) {
+            byte[] indexFileContent = Files.readAllBytes(indexPath);
+            try {
+                entries.putAll(jsonHandler.fromJsonToMap(indexFileContent));
+            } catch (Exception e) {
+                if (indexFileContent.length > 0) { //file is not empty and cannot be parsed
+                    logger.error("Failed to parse '{}' file with content:\n{}",
+                            indexPath, new String(indexFileContent, StandardCharsets.UTF_8), e);
+                }
+                //else file is empty, ignore exception
+            }
+        }
+        var changeLogPath = metadataPath.resolve(CHANGE_LOG_FILE);
+        if (Files.exists(changeLogPath)) {
+            for (var line : Files.readAllLines(changeLogPath, StandardCharsets.UTF_8)) {
+                var change = line.split("\t", 3);
+                if (change.length < 3) {
+                    // last line of a change log interrupted while being written
+                    continue;
+                }
+                if ("+".equals(change[0])) {
+                    entries.put(change[1], change[2]);
+                } else {
+                    entries.remove(change[1], change[2]);
+                }
+            }
+        }
+        return entries;
+    }
+}
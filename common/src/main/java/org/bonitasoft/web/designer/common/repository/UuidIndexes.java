@@ -0,0 +1,61 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bonitasoft.web.designer.model.JsonHandler;
+
+/**
+ * {@link UuidIndex}es by metadata folder, shared by the persister and the loader of a repository so that UUIDs are
+ * looked up in memory.
+ */
+public class UuidIndexes {
+
+    private final JsonHandler jsonHandler;
+    private final DeferredWrites deferredWrites;
+    private final Map<Path, UuidIndex> indexes = new ConcurrentHashMap<>();
+
+    public UuidIndexes(JsonHandler jsonHandler) {
+        this(jsonHandler, null);
+    }
+
+    /**
+     * @param deferredWrites compacts the change logs of the indexes later, null to compact them on each change
+     */
+    public UuidIndexes(JsonHandler jsonHandler, DeferredWrites deferredWrites) {
+        this.jsonHandler = jsonHandler;
+        this.deferredWrites = deferredWrites;
+    }
+
+    public UuidIndex get(Path metadataPath) {
+        return indexes.computeIfAbsent(metadataPath.toAbsolutePath().normalize(),
+                path -> new UuidIndex(jsonHandler, path, deferredWrites));
+    }
+
+    /**
+     * Write pending changes of every index in its index file
+     */
+    public void compact() throws IOException {
+        for (var index : indexes.values()) {
+            index.flush();
+        }
+    }
+}
@@ -89,6 +89,7 @@ public void save(Path directory, Widget content) throws IOException {
                 //update index used by the studio to find artifacts given their UUID
                 saveInIndex(metadataPath, content);
             }
+            notifySaved(directory, content);
         } catch (RuntimeException e) {
             //Jackson can sent Runtime exception. We change this one to IO because this exception is caught higher
             throw new IOException(e);
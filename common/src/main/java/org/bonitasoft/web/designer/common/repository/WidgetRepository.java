@@ -58,6 +58,15 @@ public String getComponentName() {
         return "widget";
     }
 
+    /**
+     * Template and controller files, read when the widget is loaded
+     */
+    @Override
+    protected List<Path> getSourceFiles(String id) {
+        var widgetFolder = resolvePathFolder(id);
+        return List.of(widgetFolder.resolve(id + ".tpl.html"), widgetFolder.resolve(id + ".ctrl.js"));
+    }
+
     @Override
     public void delete(String widgetId) throws RepositoryException, NotAllowedException, InUseException {
         var widget = get(widgetId);
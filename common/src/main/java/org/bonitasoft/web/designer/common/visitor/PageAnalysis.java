@@ -0,0 +1,92 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.visitor;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
+import org.bonitasoft.web.designer.model.asset.Asset;
+import org.bonitasoft.web.designer.model.data.Variable;
+import org.bonitasoft.web.designer.model.fragment.Fragment;
+import org.bonitasoft.web.designer.model.page.PropertyValue;
+import org.bonitasoft.web.designer.model.widget.Widget;
+
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of everything the generator needs to know about a previewable, collected in a single traversal
+ * of its element tree by {@link PageAnalysisVisitor}. Nested fragments and widgets are loaded once per render and
+ * shared by every generation stage.
+ */
+@Getter
+public class PageAnalysis {
+
+    private static final PageAnalysis EMPTY = new PageAnalysis(emptyMap(), emptyMap(), emptySet(), emptySet(),
+            emptyMap(), emptyMap(), emptyMap());
+
+    /** Widgets used in the previewable (nested fragments included), indexed by id */
+    private final Map<String, Widget> widgets;
+    /** Fragments used in the previewable (nested fragments included), indexed by id */
+    private final Map<String, Fragment> fragments;
+    private final Set<Asset> assets;
+    private final Set<String> requiredModules;
+    private final Map<String, Map<String, PropertyValue>> propertyValues;
+    private final Map<String, Map<String, Variable>> variables;
+    private final Map<String, Map<String, PropertyValue>> modelProperties;
+
+    public PageAnalysis(Map<String, Widget> widgets,
+            Map<String, Fragment> fragments,
+            Set<Asset> assets,
+            Set<String> requiredModules,
+            Map<String, Map<String, PropertyValue>> propertyValues,
+            Map<String, Map<String, Variable>> variables,
+            Map<String, Map<String, PropertyValue>> modelProperties) {
+        this.widgets = unmodifiableMap(widgets);
+        this.fragments = unmodifiableMap(fragments);
+        this.assets = unmodifiableSet(assets);
+        this.requiredModules = unmodifiableSet(requiredModules);
+        this.propertyValues = unmodifiableMap(propertyValues);
+        this.variables = unmodifiableMap(variables);
+        this.modelProperties = unmodifiableMap(modelProperties);
+    }
+
+    public static PageAnalysis empty() {
+        return EMPTY;
+    }
+
+    public Set<String> getWidgetIds() {
+        return widgets.keySet();
+    }
+
+    public Set<String> getFragmentIds() {
+        return fragments.keySet();
+    }
+
+    public Fragment getFragment(String id) {
+        var fragment = fragments.get(id);
+        if (fragment == null) {
+            throw new NotFoundException("Fragment " + id + " is not part of the analysed previewable");
+        }
+        return fragment;
+    }
+}
@@ -0,0 +1,203 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.visitor;
+
+import static java.util.stream.Collectors.toMap;
+import static org.bonitasoft.web.designer.model.asset.AssetScope.PAGE;
+import static org.bonitasoft.web.designer.model.asset.AssetScope.WIDGET;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bonitasoft.web.designer.common.repository.FragmentRepository;
+import org.bonitasoft.web.designer.common.repository.WidgetRepository;
+import org.bonitasoft.web.designer.model.Assetable;
+import org.bonitasoft.web.designer.model.Identifiable;
+import org.bonitasoft.web.designer.model.asset.Asset;
+import org.bonitasoft.web.designer.model.data.Variable;
+import org.bonitasoft.web.designer.model.fragment.Fragment;
+import org.bonitasoft.web.designer.model.page.Component;
+import org.bonitasoft.web.designer.model.page.Container;
+import org.bonitasoft.web.designer.model.page.Element;
+import org.bonitasoft.web.designer.model.page.FormContainer;
+import org.bonitasoft.web.designer.model.page.FragmentElement;
+import org.bonitasoft.web.designer.model.page.ModalContainer;
+import org.bonitasoft.web.designer.model.page.Previewable;
+import org.bonitasoft.web.designer.model.page.PropertyValue;
+import org.bonitasoft.web.designer.model.page.TabContainer;
+import org.bonitasoft.web.designer.model.page.TabsContainer;
+import org.bonitasoft.web.designer.model.widget.Widget;
+import org.bonitasoft.web.designer.visitor.ElementVisitor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Traverses the tree of elements of a previewable once and collects, in a {@link PageAnalysis}, what the
+ * {@link WidgetIdVisitor}, {@link FragmentIdVisitor}, {@link AssetVisitor} and the generator factories would
+ * otherwise collect in as many separate traversals. Each distinct fragment and widget is loaded only once.
+ */
+@RequiredArgsConstructor
+public class PageAnalysisVisitor {
+
+    private final WidgetRepository widgetRepository;
+    private final FragmentRepository fragmentRepository;
+
+    public <P extends Previewable & Identifiable> PageAnalysis analyze(P previewable) {
+        return new Analysis().analyze(previewable);
+    }
+
+    /**
+     * Per render state: collected results and already loaded artifacts. Containers record their own values after
+     * their children so that the collected maps stay identical to the ones built by the dedicated visitors.
+     */
+    private class Analysis implements ElementVisitor<Void> {
+
+        private final Map<String, Widget> widgets = new LinkedHashMap<>();
+        private final Map<String, Fragment> fragments = new LinkedHashMap<>();
+        private final Set<Asset> assets = new HashSet<>();
+        private final Set<String> requiredModules = new HashSet<>();
+        private final Map<String, Map<String, PropertyValue>> propertyValues = new HashMap<>();
+        private final Map<String, Map<String, Variable>> variables = new HashMap<>();
+        private final Map<String, Map<String, PropertyValue>> modelProperties = new HashMap<>();
+
+        <P extends Previewable & Identifiable> PageAnalysis analyze(P previewable) {
+            var assetable = previewable instanceof Assetable;
+            if (assetable) {
+                for (var asset : ((Assetable) previewable).getAssets()) {
+                    assets.add(asset.setScope(PAGE));
+                }
+            }
+            variables.put(previewable.getId(), previewable.getVariables());
+            visitRows(previewable.getRows());
+
+            if (assetable) {
+                //User can exclude assets or specify a specific order in the page
+                for (var asset : assets) {
+                    var key = asset.getId() != null ? asset.getId() : asset.getName();
+                    asset.setActive(!previewable.getInactiveAssets().contains(key));
+                }
+            } else {
+                assets.clear();
+            }
+            return new PageAnalysis(widgets, fragments, assets, requiredModules, propertyValues, variables,
+                    modelProperties);
+        }
+
+        @Override
+        public Void visit(Container container) {
+            useWidget(container.getId());
+            visitRows(container.getRows());
+            propertyValues.put(container.getReference(), container.getPropertyValues());
+            return null;
+        }
+
+        @Override
+        public Void visit(FormContainer formContainer) {
+            useWidget(formContainer.getId());
+            formContainer.getContainer().accept(this);
+            propertyValues.put(formContainer.getReference(), formContainer.getPropertyValues());
+            return null;
+        }
+
+        @Override
+        public Void visit(TabsContainer tabsContainer) {
+            useWidget(tabsContainer.getId());
+            propertyValues.put(tabsContainer.getReference(), tabsContainer.getPropertyValues());
+            for (var tabContainer : tabsContainer.getTabList()) {
+                tabContainer.accept(this);
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(TabContainer tabContainer) {
+            // tab containers have no assets nor required modules, their directive is shipped with the tabs one
+            loadWidget(tabContainer.getId());
+            tabContainer.getContainer().accept(this);
+            propertyValues.put(tabContainer.getReference(), tabContainer.getPropertyValues());
+            return null;
+        }
+
+        @Override
+        public Void visit(ModalContainer modalContainer) {
+            useWidget(modalContainer.getId());
+            modalContainer.getContainer().accept(this);
+            propertyValues.put(modalContainer.getReference(), modalContainer.getPropertyValues());
+            return null;
+        }
+
+        @Override
+        public Void visit(Component component) {
+            useWidget(component.getId());
+            propertyValues.put(component.getReference(), component.getPropertyValues());
+            return null;
+        }
+
+        @Override
+        public Void visit(FragmentElement fragmentElement) {
+            var fragment = loadFragment(fragmentElement.getId());
+            modelProperties.put(fragmentElement.getReference(), getBindings(fragmentElement, fragment));
+            variables.put(fragment.getId(), fragment.getVariables());
+            visitRows(fragment.getRows());
+            propertyValues.put(fragmentElement.getReference(), fragmentElement.getPropertyValues());
+            return null;
+        }
+
+        @Override
+        public <P extends Previewable & Identifiable> Void visit(P previewable) {
+            throw new IllegalStateException("A previewable can only be the root of an analysis");
+        }
+
+        private void visitRows(List<List<Element>> rows) {
+            for (var row : rows) {
+                for (var element : row) {
+                    element.accept(this);
+                }
+            }
+        }
+
+        private Fragment loadFragment(String id) {
+            return fragments.computeIfAbsent(id, fragmentRepository::get);
+        }
+
+        private Widget loadWidget(String id) {
+            return widgets.computeIfAbsent(id, widgetRepository::get);
+        }
+
+        private void useWidget(String id) {
+            var widget = loadWidget(id);
+            //Component id and scope are not persisted
+            for (var asset : widget.getAssets()) {
+                asset.setComponentId(widget.getId());
+                asset.setScope(WIDGET);
+                assets.add(asset);
+            }
+            requiredModules.addAll(widget.getRequiredModules());
+        }
+
+        private Map<String, PropertyValue> getBindings(FragmentElement fragmentElement, Fragment fragment) {
+            var exposedData = fragment.getExposedVariables();
+            return fragmentElement.getBinding().entrySet().stream()
+                    .filter(entry -> exposedData.containsKey(entry.getKey()))
+                    .collect(toMap(Map.Entry::getKey, new FragmentBindingValueTransformer()));
+        }
+    }
+}
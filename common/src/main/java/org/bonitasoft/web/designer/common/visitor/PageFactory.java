@@ -22,4 +22,12 @@
 public interface PageFactory {
 
     <P extends Previewable & Identifiable> String generate(P previewable);
+
+    /**
+     * Generate the factory from an already computed analysis of the previewable. Factories which can read their
+     * resources from the analysis should override it to avoid traversing the previewable again.
+     */
+    default <P extends Previewable & Identifiable> String generate(P previewable, PageAnalysis analysis) {
+        return generate(previewable);
+    }
 }
@@ -0,0 +1,97 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramInstrumentationTest {
+
+    private final HistogramInstrumentation instrumentation = new HistogramInstrumentation();
+
+    @Test
+    void should_aggregate_occurrences_of_a_phase() {
+        instrumentation.record("minify", 1_000, 10);
+        instrumentation.record("minify", 3_000, 20);
+
+        var histogram = instrumentation.getHistogram("minify");
+
+        assertThat(histogram.getCount()).isEqualTo(2);
+        assertThat(histogram.getTotal()).isEqualTo(Duration.ofNanos(4_000));
+        assertThat(histogram.getMean()).isEqualTo(Duration.ofNanos(2_000));
+        assertThat(histogram.getMax()).isEqualTo(Duration.ofNanos(3_000));
+        assertThat(histogram.getBytes()).isEqualTo(30);
+    }
+
+    @Test
+    void should_approximate_percentiles_by_the_upper_bound_of_their_bucket() {
+        for (var i = 0; i < 99; i++) {
+            instrumentation.record("concat", 1_000, 0);
+        }
+        instrumentation.record("concat", 1_000_000, 0);
+
+        var histogram = instrumentation.getHistogram("concat");
+
+        assertThat(histogram.getPercentile(0.5)).isEqualTo(Duration.ofNanos(1_023));
+        assertThat(histogram.getPercentile(0.99)).isEqualTo(Duration.ofNanos(1_023));
+        assertThat(histogram.getPercentile(1)).isEqualTo(Duration.ofNanos(1_000_000));
+    }
+
+    @Test
+    void should_return_an_empty_histogram_for_an_unknown_phase() {
+        var histogram = instrumentation.getHistogram("unknown");
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMean()).isEqualTo(Duration.ZERO);
+        assertThat(histogram.getPercentile(0.99)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void should_time_a_phase_with_a_timer() {
+        var timer = instrumentation.start("hash");
+
+        timer.stop(42);
+
+        assertThat(instrumentation.getHistogram("hash").getCount()).isEqualTo(1);
+        assertThat(instrumentation.getHistogram("hash").getBytes()).isEqualTo(42);
+    }
+
+    @Test
+    void should_summarize_phases_in_name_order() {
+        instrumentation.record("template", 2_000_000, 100);
+        instrumentation.record("artifact.load", 1_000_000, 0);
+
+        var lines = instrumentation.summary().split(System.lineSeparator());
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("phase");
+        assertThat(lines[1]).startsWith("artifact.load").contains("1.000");
+        assertThat(lines[2]).startsWith("template").contains("2.000").endsWith("100");
+    }
+
+    @Test
+    void should_forget_recorded_phases_on_reset() {
+        instrumentation.record("template", 1_000, 0);
+
+        instrumentation.reset();
+
+        assertThat(instrumentation.getHistograms()).isEmpty();
+    }
+}
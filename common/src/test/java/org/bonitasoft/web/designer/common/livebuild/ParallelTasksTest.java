@@ -0,0 +1,75 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.livebuild;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelTasksTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private final List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void should_process_items_in_order_when_no_pool_is_given() {
+        List<Integer> processed = new ArrayList<>();
+
+        ParallelTasks.forEach(null, items, processed::add);
+
+        assertThat(processed).isEqualTo(items);
+    }
+
+    @Test
+    void should_process_every_item_on_the_pool() {
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+        ParallelTasks.forEach(pool, items, processed::add);
+
+        assertThat(processed).containsExactlyInAnyOrderElementsOf(items);
+    }
+
+    @Test
+    void should_process_remaining_items_and_rethrow_failure() {
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+        var failure = new IllegalStateException("item 42 failed");
+
+        assertThatThrownBy(() -> ParallelTasks.forEach(pool, items, item -> {
+            if (item == 42) {
+                throw failure;
+            }
+            processed.add(item);
+        })).isSameAs(failure);
+        assertThat(processed).hasSize(99);
+    }
+}
@@ -0,0 +1,135 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.livebuild;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WatchServiceWatcherTest {
+
+    private static final long DEBOUNCE_DELAY = 50;
+
+    private WatchServiceWatcher watcher;
+    private Path subDirectory;
+
+    @TempDir
+    Path folder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        subDirectory = Files.createDirectory(folder.resolve("un répertoire"));
+        watcher = new WatchServiceWatcher(DEBOUNCE_DELAY);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        watcher.close();
+    }
+
+    @Test
+    void should_trigger_a_created_event_when_a_file_is_created() throws Exception {
+        PathListenerStub listener = new PathListenerStub();
+        watcher.watch(folder, listener);
+
+        Path file = Files.createFile(subDirectory.resolve("file"));
+
+        Awaitility.await().until(changedFilesContainsExactly(listener, file));
+    }
+
+    @Test
+    void should_trigger_a_modified_event_when_a_file_is_modified() throws Exception {
+        Path existingFile = Files.createFile(subDirectory.resolve("file"));
+        PathListenerStub listener = new PathListenerStub();
+        watcher.watch(folder, listener);
+
+        Files.write(existingFile, "hello".getBytes(), StandardOpenOption.APPEND);
+
+        Awaitility.await().until(changedFilesContainsExactly(listener, existingFile));
+    }
+
+    @Test
+    void should_watch_directories_created_after_registration() throws Exception {
+        PathListenerStub listener = new PathListenerStub();
+        watcher.watch(folder, listener);
+
+        Path newDirectory = Files.createDirectories(subDirectory.resolve("new").resolve("directory"));
+        Path file = Files.createFile(newDirectory.resolve("file"));
+
+        Awaitility.await().until(changedFilesContainsExactly(listener, file));
+    }
+
+    @Test
+    void should_watch_a_directory_which_does_not_exist_yet() throws Exception {
+        PathListenerStub listener = new PathListenerStub();
+        Path notYetCreated = folder.resolve("not").resolve("yet");
+        watcher.watch(notYetCreated, listener);
+
+        Files.createDirectories(notYetCreated);
+        Path file = Files.write(notYetCreated.resolve("file"), "hello".getBytes());
+
+        Awaitility.await().until(changedFilesContainsExactly(listener, file));
+    }
+
+    @Test
+    void should_coalesce_successive_events_on_a_same_file() throws Exception {
+        Path existingFile = Files.createFile(subDirectory.resolve("file"));
+        List<Path> notifications = new CopyOnWriteArrayList<>();
+        watcher.watch(folder, notifications::add);
+
+        for (int i = 0; i < 5; i++) {
+            Files.write(existingFile, ("hello " + i).getBytes());
+        }
+
+        Awaitility.await().until(() -> !notifications.isEmpty());
+        Thread.sleep(DEBOUNCE_DELAY * 4);
+        assertThat(notifications).containsExactly(existingFile);
+    }
+
+    @Test
+    void should_not_notify_files_outside_of_watched_directory() throws Exception {
+        PathListenerStub listener = new PathListenerStub();
+        Path otherDirectory = Files.createDirectory(folder.resolve("other"));
+        watcher.watch(subDirectory, listener);
+
+        Files.createFile(otherDirectory.resolve("file"));
+        Path file = Files.createFile(subDirectory.resolve("file"));
+
+        Awaitility.await().until(changedFilesContainsExactly(listener, file));
+    }
+
+    private Callable<Boolean> changedFilesContainsExactly(PathListenerStub listener, Path expectedFile) {
+        return () -> {
+            Set<Path> changed = listener.getChanged();
+            return changed.size() == 1
+                    && changed.contains(expectedFile);
+        };
+    }
+
+}
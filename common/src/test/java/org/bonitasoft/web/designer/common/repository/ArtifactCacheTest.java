@@ -0,0 +1,228 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.createDirectory;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bonitasoft.web.designer.builder.WidgetBuilder.aWidget;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.validation.Validation;
+
+import org.bonitasoft.web.designer.builder.PageBuilder;
+import org.bonitasoft.web.designer.common.livebuild.PathListener;
+import org.bonitasoft.web.designer.common.livebuild.Watcher;
+import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.bonitasoft.web.designer.model.asset.Asset;
+import org.bonitasoft.web.designer.model.page.Page;
+import org.bonitasoft.web.designer.model.widget.Widget;
+import org.bonitasoft.web.designer.repository.BeanValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ArtifactCacheTest {
+
+    @TempDir
+    Path temporaryFolder;
+
+    @Mock
+    private Watcher watcher;
+
+    private JsonHandler jsonHandler;
+    private BeanValidator validator;
+    private JsonFileBasedLoader<Page> loader;
+    private PageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jsonHandler = new JsonHandlerFactory().create();
+        validator = new BeanValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        loader = spy(new JsonFileBasedLoader<>(jsonHandler, Page.class));
+        repository = new PageRepository(temporaryFolder, temporaryFolder,
+                new JsonFileBasedPersister<>(jsonHandler, validator, "1.0.0", "2.0"), loader, validator, watcher);
+        repository.useCache(new ArtifactCache<>(jsonHandler, 2));
+    }
+
+    private Page addToRepository(Page page) throws Exception {
+        createDirectory(temporaryFolder.resolve(page.getId()));
+        repository.getPersister().save(temporaryFolder.resolve(page.getId()), page);
+        return page;
+    }
+
+    private Path descriptor(String id) {
+        return temporaryFolder.resolve(id).resolve(id + ".json");
+    }
+
+    @Test
+    void should_not_reload_an_unchanged_page() throws Exception {
+        addToRepository(PageBuilder.aFilledPage("page-id"));
+
+        var loaded = repository.get("page-id");
+        var cached = repository.get("page-id");
+
+        assertThat(cached).usingRecursiveComparison().isEqualTo(loaded);
+        verify(loader, times(1)).get(descriptor("page-id"));
+    }
+
+    @Test
+    void should_return_a_copy_of_cached_page() throws Exception {
+        addToRepository(PageBuilder.aFilledPage("page-id"));
+
+        var first = repository.get("page-id");
+        first.setName("modified");
+        first.getAssets().add(new Asset().setName("added.js"));
+
+        var second = repository.get("page-id");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isNotEqualTo("modified");
+        assertThat(second.getAssets()).extracting(Asset::getName).doesNotContain("added.js");
+    }
+
+    @Test
+    void should_reload_a_page_saved_through_the_persister() throws Exception {
+        var page = addToRepository(PageBuilder.aPage().withId("page-id").withName("before").build());
+        repository.get("page-id");
+
+        page.setName("after");
+        repository.save(page);
+
+        assertThat(repository.get("page-id").getName()).isEqualTo("after");
+        verify(loader, times(2)).get(descriptor("page-id"));
+    }
+
+    @Test
+    void should_reload_a_page_modified_on_disk() throws Exception {
+        addToRepository(PageBuilder.aPage().withId("page-id").withName("before").build());
+        repository.get("page-id");
+
+        var content = Files.readString(descriptor("page-id"), StandardCharsets.UTF_8);
+        Files.writeString(descriptor("page-id"), content.replace("\"before\"", "\"changed on disk\""),
+                StandardCharsets.UTF_8);
+
+        assertThat(repository.get("page-id").getName()).isEqualTo("changed on disk");
+    }
+
+    @Test
+    void should_forget_a_deleted_page() throws Exception {
+        addToRepository(PageBuilder.aFilledPage("page-id"));
+        repository.get("page-id");
+
+        repository.delete("page-id");
+
+        assertThrows(NotFoundException.class, () -> repository.get("page-id"));
+    }
+
+    @Test
+    void should_invalidate_a_page_when_watcher_notify_a_change() throws Exception {
+        var listener = ArgumentCaptor.forClass(PathListener.class);
+        verify(watcher).watch(eq(temporaryFolder), listener.capture());
+        addToRepository(PageBuilder.aFilledPage("page-id"));
+        repository.get("page-id");
+
+        listener.getValue().onChange(temporaryFolder.resolve(".metadata").resolve("page-id.json"));
+        repository.get("page-id");
+
+        verify(loader, times(2)).get(descriptor("page-id"));
+    }
+
+    @Test
+    void should_keep_a_bounded_number_of_pages() throws Exception {
+        var cache = new ArtifactCache<Page>(jsonHandler, 2);
+        repository.useCache(cache);
+        addToRepository(PageBuilder.aFilledPage("page1"));
+        addToRepository(PageBuilder.aFilledPage("page2"));
+        addToRepository(PageBuilder.aFilledPage("page3"));
+
+        repository.get("page1");
+        repository.get("page2");
+        repository.get("page3");
+        repository.get("page1");
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(loader, times(2)).get(descriptor("page1"));
+    }
+
+    @Test
+    void should_cache_a_widget_with_its_template() throws Exception {
+        var widgetRepository = new WidgetRepository(temporaryFolder, temporaryFolder,
+                new WidgetFileBasedPersister(jsonHandler, validator, "1.0.0", "2.0"),
+                new WidgetFileBasedLoader(jsonHandler), validator, watcher);
+        widgetRepository.useCache(new ArtifactCache<>(jsonHandler, 10));
+        var widget = aWidget().withId("customLabel").custom().template("<p>label</p>").build();
+        widgetRepository.createComponentDirectory(widget);
+        widgetRepository.save(widget);
+
+        var loaded = widgetRepository.get("customLabel");
+        Widget cached = widgetRepository.get("customLabel");
+
+        assertThat(cached).usingRecursiveComparison().isEqualTo(loaded);
+        assertThat(cached.getTemplate()).isEqualTo("<p>label</p>");
+        verify(watcher, times(2)).watch(eq(temporaryFolder), any(PathListener.class));
+    }
+
+    @Test
+    void should_reload_a_widget_which_template_changed_on_disk() throws Exception {
+        var widgetRepository = new WidgetRepository(temporaryFolder, temporaryFolder,
+                new WidgetFileBasedPersister(jsonHandler, validator, "1.0.0", "2.0"),
+                new WidgetFileBasedLoader(jsonHandler), validator, watcher);
+        widgetRepository.useCache(new ArtifactCache<>(jsonHandler, 10));
+        var widget = aWidget().withId("customLabel").custom().template("<p>label</p>").controller("var a;").build();
+        widgetRepository.createComponentDirectory(widget);
+        widgetRepository.save(widget);
+        widgetRepository.get("customLabel");
+
+        Files.writeString(temporaryFolder.resolve("customLabel").resolve("customLabel.tpl.html"), "<p>changed</p>");
+        Files.writeString(temporaryFolder.resolve("customLabel").resolve("customLabel.ctrl.js"), "var changed;");
+
+        var reloaded = widgetRepository.get("customLabel");
+        assertThat(reloaded.getTemplate()).isEqualTo("<p>changed</p>");
+        assertThat(reloaded.getController()).isEqualTo("var changed;");
+    }
+
+    @Test
+    void should_keep_the_designer_version_of_a_cached_page() throws Exception {
+        addToRepository(PageBuilder.aPage().withId("page-id").withName("legacy").build());
+        var descriptor = jsonHandler.fromJsonToComplexMap(Files.readAllBytes(descriptor("page-id")));
+        descriptor.remove("modelVersion");
+        descriptor.put("designerVersion", "1.12.0");
+        Files.write(descriptor("page-id"), jsonHandler.toJson(descriptor));
+
+        var loaded = repository.get("page-id");
+        var cached = repository.get("page-id");
+
+        assertThat(cached).isEqualTo(loaded).usingRecursiveComparison().isEqualTo(loaded);
+        assertThat(cached.getDesignerVersion()).isEqualTo("1.12.0");
+        verify(loader, times(1)).get(descriptor("page-id"));
+    }
+}
@@ -32,10 +32,12 @@
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.designer.builder.AssetBuilder;
 import org.bonitasoft.web.designer.builder.PageBuilder;
 import org.bonitasoft.web.designer.common.repository.exception.NotAllowedException;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
 import org.bonitasoft.web.designer.model.asset.Asset;
 import org.bonitasoft.web.designer.model.asset.AssetType;
 import org.bonitasoft.web.designer.model.exception.ConstraintValidationException;
@@ -104,6 +106,22 @@ void should_save_asset() throws Exception {
                 .isEqualTo("My example with special characters réè@# ");
     }
 
+    @Test
+    void should_get_hash_of_a_saved_asset_from_hash_store() throws Exception {
+        Page page = PageBuilder.aPage().withId("page-id").build();
+        Asset asset = AssetBuilder.aFilledAsset(page);
+        when(pageRepository.resolvePathFolder("page-id")).thenReturn(pagesPath.resolve("page-id"));
+        var hashStore = new FileHashStore(new JsonHandlerFactory().create(), pagesPath,
+                AssetRepository.ASSET_HASHES);
+        var hashedAssetRepository = new AssetRepository<>(pageRepository, validator, hashStore);
+
+        hashedAssetRepository.save(asset, "var a = 1;".getBytes(UTF_8));
+
+        assertThat(hashedAssetRepository.getHash(asset)).isEqualTo(DigestUtils.sha1Hex("var a = 1;"));
+        hashStore.flush();
+        assertThat(pagesPath.resolve(".metadata").resolve(".assets.json")).exists();
+    }
+
     @Test
     void should_throw_NullPointerException_when_deleting_asset_componentId_null() throws Exception {
         Asset asset = new Asset();
@@ -0,0 +1,70 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.Flushable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DeferredWritesTest {
+
+    private final DeferredWrites deferredWrites = new DeferredWrites(100);
+
+    private final Flushable metadata = mock(Flushable.class);
+
+    @AfterEach
+    void tearDown() {
+        deferredWrites.close();
+    }
+
+    @Test
+    void should_flush_a_scheduled_metadata_once_after_the_delay() throws Exception {
+        deferredWrites.schedule(metadata);
+        deferredWrites.schedule(metadata);
+
+        verify(metadata, never()).flush();
+        await().atMost(2, SECONDS).untilAsserted(() -> verify(metadata).flush());
+        Thread.sleep(200);
+        verify(metadata, times(1)).flush();
+    }
+
+    @Test
+    void should_flush_pending_metadata_on_close() throws Exception {
+        deferredWrites.schedule(metadata);
+
+        deferredWrites.close();
+
+        verify(metadata).flush();
+    }
+
+    @Test
+    void should_flush_right_away_once_closed() throws Exception {
+        deferredWrites.close();
+
+        deferredWrites.schedule(metadata);
+
+        verify(metadata).flush();
+    }
+}
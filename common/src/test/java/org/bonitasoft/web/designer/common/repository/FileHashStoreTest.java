@@ -0,0 +1,167 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.bonitasoft.web.designer.model.page.Page;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileHashStoreTest {
+
+    @TempDir
+    Path repositoryFolder;
+
+    private final DeferredWrites deferredWrites = new DeferredWrites();
+
+    private JsonHandler jsonHandler;
+    private Path asset;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jsonHandler = new JsonHandlerFactory().create();
+        asset = Files.createDirectories(repositoryFolder.resolve("page-id").resolve("assets").resolve("js"))
+                .resolve("myfile.js");
+        Files.write(asset, "var a = 1;".getBytes(UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        deferredWrites.close();
+    }
+
+    @Test
+    void should_compute_the_sha1_of_an_asset() throws Exception {
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets", deferredWrites);
+
+        assertThat(store.getHash(asset)).isEqualTo(DigestUtils.sha1Hex("var a = 1;"));
+        await().atMost(3, SECONDS).untilAsserted(
+                () -> assertThat(repositoryFolder.resolve(".metadata").resolve(".assets.json")).exists());
+    }
+
+    @Test
+    void should_write_the_store_once_for_many_hashes() throws Exception {
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets", deferredWrites);
+        var other = Files.write(asset.resolveSibling("other.js"), "var o = 0;".getBytes(UTF_8));
+
+        store.getHash(asset);
+        store.getHash(other);
+
+        assertThat(repositoryFolder.resolve(".metadata").resolve(".assets.json")).doesNotExist();
+        store.flush();
+        assertThat(Files.readString(repositoryFolder.resolve(".metadata").resolve(".assets.json")))
+                .contains("page-id/assets/js/myfile.js", "page-id/assets/js/other.js");
+    }
+
+    @Test
+    void should_write_pending_hashes_when_deferred_writes_are_closed() throws Exception {
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets", deferredWrites);
+        store.getHash(asset);
+
+        deferredWrites.close();
+
+        assertThat(Files.readString(repositoryFolder.resolve(".metadata").resolve(".assets.json")))
+                .contains("page-id/assets/js/myfile.js");
+    }
+
+    @Test
+    void should_forget_the_hashes_of_a_deleted_component() throws Exception {
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets");
+        var otherPageAsset = Files.write(Files.createDirectories(repositoryFolder.resolve("page-id2")).resolve("a.js"),
+                "var o = 0;".getBytes(UTF_8));
+        store.getHash(asset);
+        store.getHash(otherPageAsset);
+
+        store.<Page> deletionListener().onDelete(repositoryFolder.resolve("page-id"), mock(Page.class));
+
+        assertThat(Files.readString(repositoryFolder.resolve(".metadata").resolve(".assets.json")))
+                .contains("page-id2/a.js").doesNotContain("myfile.js");
+    }
+
+    @Test
+    void should_not_read_again_an_unchanged_asset() throws Exception {
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets");
+        var hash = store.getHash(asset);
+        store.flush();
+        // same size and modification time, only a read of the content would see the change
+        var lastModified = Files.getLastModifiedTime(asset);
+        Files.write(asset, "var b = 2;".getBytes(UTF_8));
+        Files.setLastModifiedTime(asset, lastModified);
+
+        assertThat(new FileHashStore(jsonHandler, repositoryFolder, ".assets").getHash(asset)).isEqualTo(hash);
+    }
+
+    @Test
+    void should_compute_again_the_sha1_of_a_modified_asset() throws Exception {
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets");
+        store.getHash(asset);
+
+        Files.write(asset, "var a = 12;".getBytes(UTF_8));
+
+        assertThat(store.getHash(asset)).isEqualTo(DigestUtils.sha1Hex("var a = 12;"));
+    }
+
+    @Test
+    void should_store_the_sha1_of_an_updated_asset() throws Exception {
+        Files.write(asset, "var c = 3;".getBytes(UTF_8));
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets");
+        store.update(asset, "var c = 3;".getBytes(UTF_8));
+        store.flush();
+
+        var lastModified = Files.getLastModifiedTime(asset);
+        Files.write(asset, "var d = 4;".getBytes(UTF_8));
+        Files.setLastModifiedTime(asset, lastModified);
+
+        assertThat(new FileHashStore(jsonHandler, repositoryFolder, ".assets").getHash(asset))
+                .isEqualTo(DigestUtils.sha1Hex("var c = 3;"));
+    }
+
+    @Test
+    void should_forget_a_removed_asset() throws Exception {
+        var store = new FileHashStore(jsonHandler, repositoryFolder, ".assets");
+        store.getHash(asset);
+        store.flush();
+
+        store.remove(asset);
+        store.flush();
+
+        assertThat(Files.readString(repositoryFolder.resolve(".metadata").resolve(".assets.json")))
+                .doesNotContain("myfile.js");
+    }
+
+    @Test
+    void should_compute_again_hashes_when_store_is_corrupted() throws Exception {
+        Files.createDirectories(repositoryFolder.resolve(".metadata"));
+        Files.write(repositoryFolder.resolve(".metadata").resolve(".assets.json"), "not json".getBytes(UTF_8));
+
+        assertThat(new FileHashStore(jsonHandler, repositoryFolder, ".assets").getHash(asset))
+                .isEqualTo(DigestUtils.sha1Hex("var a = 1;"));
+    }
+}
@@ -30,6 +30,7 @@
 
 import javax.validation.Validation;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.assertj.core.api.Assertions;
 import org.bonitasoft.web.designer.builder.FragmentBuilder;
 import org.bonitasoft.web.designer.common.livebuild.Watcher;
@@ -98,6 +99,45 @@ void should_throw_NotFoundException_when_getting_an_inexisting_fragment() throws
         assertThrows(NotFoundException.class, () -> repository.get("fragment-id-unknown"));
     }
 
+    @Test
+    void should_get_the_hash_of_a_fragment_descriptor() throws Exception {
+        repository.useHashStore(new FileHashStore(new JsonHandlerFactory().create(), temporaryFolder,
+                FragmentRepository.DESCRIPTOR_HASHES));
+        Fragment fragment = addToRepository(FragmentBuilder.aFilledFragment("fragment-id"));
+
+        String hash = repository.getHash("fragment-id");
+
+        assertThat(hash).isEqualTo(
+                DigestUtils.sha1Hex(Files.readAllBytes(temporaryFolder.resolve("fragment-id/fragment-id.json"))));
+        Mockito.verify(loader, Mockito.never()).get(Mockito.any(Path.class));
+        fragment.setName("renamed");
+        persister.save(temporaryFolder.resolve("fragment-id"), fragment);
+        assertThat(repository.getHash("fragment-id")).isNotEqualTo(hash);
+    }
+
+    @Test
+    void should_not_write_the_hash_store_for_each_hashed_fragment() throws Exception {
+        var deferredWrites = new DeferredWrites();
+        var hashStore = new FileHashStore(new JsonHandlerFactory().create(), temporaryFolder,
+                FragmentRepository.DESCRIPTOR_HASHES, deferredWrites);
+        repository.useHashStore(hashStore);
+        addToRepository(FragmentBuilder.aFilledFragment("fragment1"));
+        addToRepository(FragmentBuilder.aFilledFragment("fragment2"));
+        var store = temporaryFolder.resolve(".metadata").resolve(FragmentRepository.DESCRIPTOR_HASHES + ".json");
+
+        repository.getHash("fragment1");
+        repository.getHash("fragment2");
+
+        assertThat(store).doesNotExist();
+        deferredWrites.close();
+        assertThat(Files.readString(store)).contains("fragment1/fragment1.json", "fragment2/fragment2.json");
+    }
+
+    @Test
+    void should_throw_NotFoundException_when_getting_the_hash_of_an_inexisting_fragment() {
+        assertThrows(NotFoundException.class, () -> repository.getHash("fragment-id-unknown"));
+    }
+
     @Test
     void should_get_all_fragment_from_repository_empty() {
         assertThat(repository.getAll()).isEmpty();
@@ -0,0 +1,160 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.createDirectory;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bonitasoft.web.designer.builder.PageBuilder.aPage;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.bonitasoft.web.designer.model.page.Page;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IdAllocatorTest {
+
+    @TempDir
+    Path repositoryPath;
+
+    private IdAllocator<Page> idAllocator;
+
+    @BeforeEach
+    void setUp() {
+        idAllocator = new IdAllocator<>(repositoryPath);
+    }
+
+    private void addToRepository(String... ids) throws Exception {
+        for (var id : ids) {
+            createDirectory(repositoryPath.resolve(id));
+        }
+    }
+
+    private void save(String id) throws Exception {
+        addToRepository(id);
+        idAllocator.onSave(repositoryPath.resolve(id), aPage().withId(id).build());
+    }
+
+    @Test
+    void should_use_the_name_when_it_is_not_used() throws Exception {
+        addToRepository("other");
+
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage");
+    }
+
+    @Test
+    void should_suffix_the_name_with_the_next_number_after_the_existing_ones() throws Exception {
+        addToRepository("myPage", "myPage3", "myPage20", "myPageCopy", "otherPage245");
+
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage21");
+    }
+
+    @Test
+    void should_not_allocate_twice_the_same_id_before_it_is_saved() throws Exception {
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage");
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage1");
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage2");
+    }
+
+    @Test
+    void should_allocate_again_a_released_id() throws Exception {
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage");
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage1");
+
+        idAllocator.release("myPage1");
+        idAllocator.release("myPage");
+
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage");
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage1");
+    }
+
+    @Test
+    void should_not_release_a_saved_id() throws Exception {
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage");
+        save("myPage");
+
+        idAllocator.release("myPage");
+
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage1");
+    }
+
+    @Test
+    void should_take_saved_components_into_account() throws Exception {
+        addToRepository("myPage");
+        idAllocator.next("myPage");
+
+        save("myPage7");
+
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage8");
+    }
+
+    @Test
+    void should_handle_names_ending_with_digits() throws Exception {
+        addToRepository("page", "page1", "page12");
+
+        assertThat(idAllocator.next("page1")).isEqualTo("page13");
+        assertThat(idAllocator.next("page")).isEqualTo("page14");
+    }
+
+    @Test
+    void should_reuse_the_highest_suffix_once_its_component_is_deleted() throws Exception {
+        addToRepository("myPage", "myPage1");
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage2");
+        save("myPage2");
+
+        idAllocator.onDelete(repositoryPath.resolve("myPage2"), aPage().withId("myPage2").build());
+        repositoryPath.resolve("myPage2").toFile().delete();
+
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage2");
+    }
+
+    @Test
+    void should_not_allocate_an_id_which_folder_was_created_by_another_tool() throws Exception {
+        addToRepository("myPage");
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage1");
+
+        addToRepository("myPage2");
+
+        assertThat(idAllocator.next("myPage")).isEqualTo("myPage3");
+    }
+
+    @Test
+    void should_allocate_distinct_ids_to_concurrent_creations() throws Exception {
+        addToRepository("myPage");
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = new ArrayList<Future<String>>();
+            for (var i = 0; i < 100; i++) {
+                futures.add(executor.submit((Callable<String>) () -> idAllocator.next("myPage")));
+            }
+            var ids = new HashSet<String>();
+            for (var future : futures) {
+                ids.add(future.get());
+            }
+
+            assertThat(ids).hasSize(100).doesNotContain("myPage");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
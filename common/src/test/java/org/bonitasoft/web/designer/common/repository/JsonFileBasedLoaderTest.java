@@ -29,6 +29,8 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bonitasoft.web.designer.SimpleDesignerArtifact;
 import org.bonitasoft.web.designer.builder.SimpleObjectBuilder;
@@ -37,6 +39,7 @@
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
 import org.bonitasoft.web.designer.model.JsonHandler;
 import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,6 +65,11 @@ void setUp() throws IOException {
         loader = new JsonFileBasedLoader<>(jsonHandler, SimpleDesignerArtifact.class);
     }
 
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
     private void addToRepository(SimpleDesignerArtifact... pages) throws Exception {
         for (SimpleDesignerArtifact page : pages) {
             //A page is in its own folder
@@ -149,6 +157,68 @@ void should_fail_silently_when_a_model_file_is_corrupted_while_getting_all_objec
         assertThat(all).containsOnly(object2);
     }
 
+    @Test
+    void should_get_all_objects_in_the_same_order_when_loading_in_parallel() throws Exception {
+        for (var i = 0; i < 20; i++) {
+            addToRepository(SimpleObjectBuilder.aFilledSimpleObject("object" + i));
+        }
+        Files.write(repoDirectory.resolve("object7/object7.json"), "json corrupted".getBytes());
+        var sequential = loader.getAll(repoDirectory);
+
+        loader.setParallelism(4);
+        var parallel = loader.getAll(repoDirectory);
+
+        assertThat(parallel).hasSize(19).containsExactlyElementsOf(sequential);
+    }
+
+    @Test
+    void should_load_all_objects_in_the_same_order_when_loading_in_parallel() throws Exception {
+        for (var i = 0; i < 20; i++) {
+            addToRepository(SimpleObjectBuilder.aFilledSimpleObject("object" + i));
+        }
+        var sequential = loader.loadAll(repoDirectory);
+
+        loader.setParallelism(4);
+        var parallel = loader.loadAll(repoDirectory);
+
+        assertThat(parallel).hasSize(20).containsExactlyElementsOf(sequential);
+    }
+
+    @Test
+    void should_throw_RepositoryException_when_error_occurs_while_getting_all_object_in_parallel() throws Exception {
+        addToRepository(SimpleObjectBuilder.aFilledSimpleObject("objet1"),
+                SimpleObjectBuilder.aFilledSimpleObject("objet2"));
+        Mockito.doThrow(new IOException()).when(jsonHandler).fromJson(ArgumentMatchers.any(byte[].class),
+                ArgumentMatchers.eq(SimpleDesignerArtifact.class));
+        loader.setParallelism(2);
+
+        assertThrows(RepositoryException.class, () -> loader.getAll(repoDirectory));
+    }
+
+    @Test
+    void should_reuse_the_loading_threads_until_the_loader_is_closed() throws Exception {
+        for (var i = 0; i < 10; i++) {
+            addToRepository(SimpleObjectBuilder.aFilledSimpleObject("object" + i));
+        }
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Mockito.doAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return invocation.callRealMethod();
+        }).when(jsonHandler).fromJson(ArgumentMatchers.any(byte[].class),
+                ArgumentMatchers.eq(SimpleDesignerArtifact.class));
+        loader.setParallelism(2);
+
+        for (var i = 0; i < 3; i++) {
+            assertThat(loader.getAll(repoDirectory)).hasSize(10);
+        }
+        assertThat(threads).hasSizeLessThanOrEqualTo(2).doesNotContain(Thread.currentThread());
+
+        loader.close();
+        threads.clear();
+        assertThat(loader.getAll(repoDirectory)).hasSize(10);
+        assertThat(threads).containsOnly(Thread.currentThread());
+    }
+
     @Test
     void should_find_a_byte_array_in_an_another() {
         assertThat(loader.indexOf("mon exemple complet".getBytes(), "exem".getBytes())).isEqualTo(4);
@@ -275,6 +345,30 @@ void should_find_any_object_included_in_another() throws Exception {
         assertThat(loader.contains(repoDirectory, "object2")).isFalse();
     }
 
+    @Test
+    void should_ignore_folders_without_descriptor_when_looking_for_an_object() throws Exception {
+        SimpleDesignerArtifact object1 = SimpleObjectBuilder.aSimpleObjectBuilder().id("objet1").build();
+        addToRepository(object1);
+        createDirectory(repoDirectory.resolve("assets"));
+        createDirectory(repoDirectory.resolve(".metadata"));
+
+        assertThat(loader.contains(repoDirectory, "objet1")).isFalse();
+    }
+
+    @Test
+    void should_find_object_included_in_another_with_the_reference_index() throws Exception {
+        SimpleDesignerArtifact object1 = SimpleObjectBuilder.aSimpleObjectBuilder().id("objet1").build();
+        SimpleDesignerArtifact object2 = SimpleObjectBuilder.aSimpleObjectBuilder().id("objet2").another(object1)
+                .build();
+        addToRepository(object1, object2);
+        loader.useReferenceIndex(new ReferenceIndex<>(jsonHandler, repoDirectory));
+
+        assertThat(loader.contains(repoDirectory, "objet1")).isTrue();
+        assertThat(loader.contains(repoDirectory, "objet2")).isFalse();
+        Mockito.verify(jsonHandler, Mockito.never()).fromJson(ArgumentMatchers.any(byte[].class),
+                ArgumentMatchers.eq(SimpleDesignerArtifact.class));
+    }
+
     @Test
     void should_load_a_single_page_in_the_import_folder() throws Exception {
         SimpleDesignerArtifact object1 = SimpleObjectBuilder.aFilledSimpleObject("objet1");
@@ -0,0 +1,191 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.createDirectory;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bonitasoft.web.designer.builder.ComponentBuilder.aComponent;
+import static org.bonitasoft.web.designer.builder.FragmentElementBuilder.aFragmentElement;
+import static org.bonitasoft.web.designer.builder.PageBuilder.aPage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.validation.Validation;
+
+import org.bonitasoft.web.designer.common.livebuild.PathListener;
+import org.bonitasoft.web.designer.common.livebuild.Watcher;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.bonitasoft.web.designer.model.page.Page;
+import org.bonitasoft.web.designer.repository.BeanValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceIndexTest {
+
+    @TempDir
+    Path temporaryFolder;
+
+    @Mock
+    private Watcher watcher;
+
+    private JsonHandler jsonHandler;
+    private BeanValidator validator;
+    private JsonFileBasedLoader<Page> loader;
+    private PageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jsonHandler = new JsonHandlerFactory().create();
+        validator = new BeanValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        loader = spy(new JsonFileBasedLoader<>(jsonHandler, Page.class));
+        repository = new PageRepository(temporaryFolder, temporaryFolder,
+                new JsonFileBasedPersister<>(jsonHandler, validator, null, null), loader, validator, watcher);
+        repository.useReferenceIndex(new ReferenceIndex<>(jsonHandler, temporaryFolder));
+    }
+
+    private void addToRepository(Page... pages) throws Exception {
+        for (var page : pages) {
+            createDirectory(temporaryFolder.resolve(page.getId()));
+            repository.getPersister().save(temporaryFolder.resolve(page.getId()), page);
+        }
+    }
+
+    @Test
+    void should_find_pages_using_a_widget_without_scanning_the_repository() throws Exception {
+        addToRepository(
+                aPage().withId("page1").with(aComponent().withWidgetId("pbInput")).build(),
+                aPage().withId("page2").with(aComponent().withWidgetId("pbText")).build(),
+                aPage().withId("page3").with(aComponent().withWidgetId("pbInput")).build());
+
+        var pages = repository.findByObjectIds(List.of("pbInput", "pbText", "pbButton"));
+
+        assertThat(pages.get("pbInput")).extracting(Page::getId).containsExactly("page1", "page3");
+        assertThat(pages.get("pbText")).extracting(Page::getId).containsExactly("page2");
+        assertThat(pages).doesNotContainKey("pbButton");
+        verify(loader, never()).findByObjectIds(any(Path.class), anyList());
+    }
+
+    @Test
+    void should_find_pages_using_a_fragment() throws Exception {
+        addToRepository(aPage().withId("page1").with(aFragmentElement().withFragmentId("fragment1")).build());
+
+        assertThat(repository.findByObjectId("fragment1")).extracting(Page::getId).containsExactly("page1");
+        verify(loader, never()).findByObjectId(any(Path.class), anyString());
+    }
+
+    @Test
+    void should_not_consider_a_page_referencing_itself() throws Exception {
+        addToRepository(aPage().withId("page1").build());
+
+        assertThat(repository.findByObjectId("page1")).isEmpty();
+    }
+
+    @Test
+    void should_update_index_when_a_page_is_saved() throws Exception {
+        var page = aPage().withId("page1").with(aComponent().withWidgetId("pbInput")).build();
+        addToRepository(page);
+
+        page.setRows(aPage().with(aComponent().withWidgetId("pbText")).build().getRows());
+        repository.save(page);
+
+        assertThat(repository.findByObjectId("pbInput")).isEmpty();
+        assertThat(repository.findByObjectId("pbText")).extracting(Page::getId).containsExactly("page1");
+    }
+
+    @Test
+    void should_update_index_when_a_page_is_deleted() throws Exception {
+        addToRepository(aPage().withId("page1").with(aComponent().withWidgetId("pbInput")).build());
+
+        repository.delete("page1");
+
+        assertThat(repository.findByObjectId("pbInput")).isEmpty();
+    }
+
+    @Test
+    void should_persist_index_in_metadata_folder() throws Exception {
+        addToRepository(aPage().withId("page1").with(aComponent().withWidgetId("pbInput")).build());
+
+        var index = temporaryFolder.resolve(".metadata").resolve(".references.json");
+        assertThat(index).exists();
+        assertThat(new ReferenceIndex<Page>(jsonHandler, temporaryFolder).findReferencing("pbInput"))
+                .containsExactly("page1");
+    }
+
+    @Test
+    void should_write_the_index_once_for_many_saved_pages() throws Exception {
+        var deferredWrites = new DeferredWrites();
+        var referenceIndex = new ReferenceIndex<Page>(jsonHandler, temporaryFolder, deferredWrites);
+        var persister = new JsonFileBasedPersister<Page>(jsonHandler, validator, null, null);
+        persister.addListener(referenceIndex);
+        var index = temporaryFolder.resolve(".metadata").resolve(".references.json");
+
+        for (var id : List.of("page1", "page2")) {
+            persister.save(createDirectory(temporaryFolder.resolve(id)),
+                    aPage().withId(id).with(aComponent().withWidgetId("pbText")).build());
+        }
+
+        assertThat(index).doesNotExist();
+        deferredWrites.close();
+        assertThat(new ReferenceIndex<Page>(jsonHandler, temporaryFolder).findReferencing("pbText"))
+                .containsExactly("page1", "page2");
+        assertThat(index.resolveSibling(".references.json.tmp")).doesNotExist();
+    }
+
+    @Test
+    void should_rebuild_index_from_descriptors() throws Exception {
+        var descriptor = temporaryFolder.resolve("page1").resolve("page1.json");
+        createDirectory(descriptor.getParent());
+        Files.write(descriptor, jsonHandler.toJson(aPage().withId("page1")
+                .with(aComponent().withWidgetId("pbInput")).build()));
+
+        repository.refreshReferences();
+
+        assertThat(repository.findByObjectId("pbInput")).extracting(Page::getId).containsExactly("page1");
+    }
+
+    @Test
+    void should_refresh_index_when_watcher_notify_a_descriptor_change() throws Exception {
+        addToRepository(aPage().withId("page1").with(aComponent().withWidgetId("pbInput")).build());
+        var listener = ArgumentCaptor.forClass(PathListener.class);
+        verify(watcher).watch(eq(temporaryFolder), listener.capture());
+
+        var descriptor = temporaryFolder.resolve("page1").resolve("page1.json");
+        var content = Files.readString(descriptor, StandardCharsets.UTF_8);
+        Files.writeString(descriptor, content.replace("\"pbInput\"", "\"pbText\""), StandardCharsets.UTF_8);
+        listener.getValue().onChange(descriptor);
+
+        assertThat(repository.findByObjectId("pbInput")).isEmpty();
+        assertThat(repository.findByObjectId("pbText")).extracting(Page::getId).containsExactly("page1");
+    }
+}
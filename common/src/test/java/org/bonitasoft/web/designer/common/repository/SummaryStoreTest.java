@@ -0,0 +1,171 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.createDirectory;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.bonitasoft.web.designer.builder.ComponentBuilder.aComponent;
+import static org.bonitasoft.web.designer.builder.FragmentElementBuilder.aFragmentElement;
+import static org.bonitasoft.web.designer.builder.PageBuilder.aPage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.validation.Validation;
+
+import org.bonitasoft.web.designer.common.livebuild.Watcher;
+import org.bonitasoft.web.designer.model.ArtifactSummary;
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.bonitasoft.web.designer.model.page.Page;
+import org.bonitasoft.web.designer.repository.BeanValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryStoreTest {
+
+    @TempDir
+    Path temporaryFolder;
+
+    @Mock
+    private Watcher watcher;
+
+    private JsonHandler jsonHandler;
+    private JsonFileBasedLoader<Page> loader;
+    private PageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jsonHandler = new JsonHandlerFactory().create();
+        var validator = new BeanValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        loader = spy(new JsonFileBasedLoader<>(jsonHandler, Page.class));
+        repository = new PageRepository(temporaryFolder, temporaryFolder,
+                new JsonFileBasedPersister<>(jsonHandler, validator, null, "2.4"), loader, validator, watcher);
+        repository.useSummaryStore(new SummaryStore<>(jsonHandler, temporaryFolder, "page"));
+    }
+
+    private void addToRepository(Page... pages) throws Exception {
+        for (var page : pages) {
+            createDirectory(temporaryFolder.resolve(page.getId()));
+            repository.getPersister().save(temporaryFolder.resolve(page.getId()), page);
+        }
+    }
+
+    @Test
+    void should_create_the_summary_store_with_the_json_handler_of_the_repository() throws Exception {
+        var validator = new BeanValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        var repositoryJsonHandler = spy(jsonHandler);
+        var repositoryWithoutStore = new PageRepository(temporaryFolder, temporaryFolder,
+                new JsonFileBasedPersister<>(repositoryJsonHandler, validator, null, "2.4"), loader, validator,
+                watcher);
+        createDirectory(temporaryFolder.resolve("page1"));
+        repositoryWithoutStore.getPersister().save(temporaryFolder.resolve("page1"),
+                aPage().withId("page1").withName("Page1").build());
+
+        assertThat(repositoryWithoutStore.getSummaries()).extracting(ArtifactSummary::getId).containsExactly("page1");
+        verify(repositoryJsonHandler).toJson(any(Object.class));
+    }
+
+    @Test
+    void should_list_summaries_without_loading_pages() throws Exception {
+        addToRepository(
+                aPage().withId("page1").withName("Page1").withUUID("uuid-1").withType("form")
+                        .with(aComponent().withWidgetId("pbInput"), aFragmentElement().withFragmentId("fragment1"))
+                        .build(),
+                aPage().withId("page2").withName("Page2").withUUID("uuid-2").build());
+
+        var summaries = repository.getSummaries();
+
+        assertThat(summaries).extracting(ArtifactSummary::getId, ArtifactSummary::getName, ArtifactSummary::getUuid,
+                ArtifactSummary::getType, ArtifactSummary::getArtifactVersion).containsExactlyInAnyOrder(
+                        tuple("page1", "Page1", "uuid-1", "form", "2.4"),
+                        tuple("page2", "Page2", "uuid-2", "page", "2.4"));
+        assertThat(summaries).filteredOn(summary -> summary.getId().equals("page1"))
+                .flatExtracting(ArtifactSummary::getReferences).contains("pbInput", "fragment1").doesNotContain("page1");
+        verify(loader, never()).getAll(any(Path.class));
+    }
+
+    @Test
+    void should_read_favorite_from_metadata() throws Exception {
+        addToRepository(aPage().withId("page1").build(), aPage().withId("page2").build());
+
+        repository.markAsFavorite("page2");
+
+        assertThat(repository.getSummaries()).extracting(ArtifactSummary::getId, ArtifactSummary::isFavorite)
+                .containsExactlyInAnyOrder(tuple("page1", false), tuple("page2", true));
+    }
+
+    @Test
+    void should_update_summary_when_a_page_is_saved() throws Exception {
+        var page = aPage().withId("page1").withName("before").build();
+        addToRepository(page);
+        repository.getSummaries();
+
+        page.setName("after");
+        repository.updateLastUpdateAndSave(page);
+
+        assertThat(repository.getSummaries()).extracting(ArtifactSummary::getName, ArtifactSummary::getLastUpdate)
+                .containsExactly(tuple("after", page.getLastUpdate().truncatedTo(MILLIS)));
+    }
+
+    @Test
+    void should_read_again_a_descriptor_modified_outside_of_the_repository() throws Exception {
+        addToRepository(aPage().withId("page1").withName("before").build());
+        repository.getSummaries();
+
+        var descriptor = temporaryFolder.resolve("page1").resolve("page1.json");
+        Files.writeString(descriptor, "{\"id\":\"page1\",\"name\":\"modified outside\"}");
+
+        assertThat(repository.getSummaries()).extracting(ArtifactSummary::getName)
+                .containsExactly("modified outside");
+    }
+
+    @Test
+    void should_remove_summary_of_a_deleted_page() throws Exception {
+        addToRepository(aPage().withId("page1").build(), aPage().withId("page2").build());
+        repository.getSummaries();
+
+        repository.delete("page1");
+
+        assertThat(repository.getSummaries()).extracting(ArtifactSummary::getId).containsExactly("page2");
+    }
+
+    @Test
+    void should_persist_summaries_in_metadata_folder() throws Exception {
+        addToRepository(aPage().withId("page1").withName("Page1").build());
+
+        repository.getSummaries();
+
+        var store = temporaryFolder.resolve(".metadata").resolve(".summaries.json");
+        assertThat(store).exists();
+        assertThat(Files.readString(store, StandardCharsets.UTF_8)).contains("\"page1\"", "\"Page1\"");
+        assertThat(new SummaryStore<Page>(jsonHandler, temporaryFolder, "page").getAll())
+                .extracting(ArtifactSummary::getName).containsExactly("Page1");
+    }
+}
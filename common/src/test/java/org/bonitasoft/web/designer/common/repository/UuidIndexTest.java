@@ -0,0 +1,144 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.common.repository;
+
+import static java.nio.file.Files.readString;
+import static java.nio.file.Files.writeString;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.bonitasoft.web.designer.model.JsonHandler;
+import org.bonitasoft.web.designer.model.JsonHandlerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UuidIndexTest {
+
+    private final JsonHandler jsonHandler = new JsonHandlerFactory().create();
+
+    @TempDir
+    Path metadataPath;
+
+    private final DeferredWrites deferredWrites = new DeferredWrites();
+
+    private UuidIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UuidIndex(jsonHandler, metadataPath, deferredWrites);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deferredWrites.close();
+    }
+
+    @Test
+    void should_write_index_file_right_away_when_it_does_not_exist() throws Exception {
+        index.put("foo-uuid", "foo");
+
+        assertThat(readString(metadataPath.resolve(UuidIndex.INDEX_FILE))).isEqualTo("{\"foo-uuid\":\"foo\"}");
+        assertThat(metadataPath.resolve(UuidIndex.CHANGE_LOG_FILE)).doesNotExist();
+    }
+
+    @Test
+    void should_append_changes_to_the_change_log_and_compact_it_later() throws Exception {
+        index.put("foo-uuid", "foo");
+
+        index.put("bar-uuid", "bar");
+
+        assertThat(index.get("bar-uuid")).isEqualTo("bar");
+        assertThat(readString(metadataPath.resolve(UuidIndex.INDEX_FILE))).doesNotContain("bar-uuid");
+        assertThat(readString(metadataPath.resolve(UuidIndex.CHANGE_LOG_FILE))).isEqualTo("+\tbar-uuid\tbar\n");
+        await().atMost(3, SECONDS).untilAsserted(() -> {
+            assertThat(readString(metadataPath.resolve(UuidIndex.INDEX_FILE))).contains("\"bar-uuid\":\"bar\"");
+            assertThat(metadataPath.resolve(UuidIndex.CHANGE_LOG_FILE)).doesNotExist();
+        });
+    }
+
+    @Test
+    void should_write_pending_changes_when_deferred_writes_are_closed() throws Exception {
+        index.put("foo-uuid", "foo");
+        index.put("bar-uuid", "bar");
+
+        deferredWrites.close();
+
+        assertThat(readString(metadataPath.resolve(UuidIndex.INDEX_FILE)))
+                .contains("\"foo-uuid\":\"foo\"", "\"bar-uuid\":\"bar\"");
+        assertThat(metadataPath.resolve(UuidIndex.CHANGE_LOG_FILE)).doesNotExist();
+        assertThat(metadataPath.resolve(UuidIndex.INDEX_FILE + ".tmp")).doesNotExist();
+    }
+
+    @Test
+    void should_compact_each_change_without_deferred_writes() throws Exception {
+        var synchronousIndex = new UuidIndex(jsonHandler, metadataPath);
+        synchronousIndex.put("foo-uuid", "foo");
+
+        synchronousIndex.put("bar-uuid", "bar");
+
+        assertThat(readString(metadataPath.resolve(UuidIndex.INDEX_FILE))).contains("\"bar-uuid\":\"bar\"");
+        assertThat(metadataPath.resolve(UuidIndex.CHANGE_LOG_FILE)).doesNotExist();
+    }
+
+    @Test
+    void should_replay_the_change_log_over_the_index_file() throws Exception {
+        writeString(metadataPath.resolve(UuidIndex.INDEX_FILE), "{\"foo-uuid\":\"foo\",\"bar-uuid\":\"bar\"}");
+        writeString(metadataPath.resolve(UuidIndex.CHANGE_LOG_FILE), "+\tbaz-uuid\tbaz\n-\tfoo-uuid\tfoo\n+\tqu");
+
+        assertThat(UuidIndex.read(jsonHandler, metadataPath))
+                .containsOnly(Map.entry("bar-uuid", "bar"), Map.entry("baz-uuid", "baz"));
+        assertThat(index.get("baz-uuid")).isEqualTo("baz");
+        assertThat(index.get("foo-uuid")).isNull();
+    }
+
+    @Test
+    void should_only_remove_a_uuid_bound_to_the_given_id() throws Exception {
+        index.put("foo-uuid", "foo");
+
+        index.remove("foo-uuid", "other");
+        assertThat(index.get("foo-uuid")).isEqualTo("foo");
+
+        index.remove("foo-uuid", "foo");
+        assertThat(index.get("foo-uuid")).isNull();
+    }
+
+    @Test
+    void should_write_the_whole_index_when_it_is_replaced() throws Exception {
+        index.put("foo-uuid", "foo");
+        index.put("bar-uuid", "bar");
+
+        index.replaceAll(Map.of("baz-uuid", "baz"));
+
+        assertThat(readString(metadataPath.resolve(UuidIndex.INDEX_FILE))).isEqualTo("{\"baz-uuid\":\"baz\"}");
+        assertThat(metadataPath.resolve(UuidIndex.CHANGE_LOG_FILE)).doesNotExist();
+        assertThat(index.get("foo-uuid")).isNull();
+    }
+
+    @Test
+    void should_share_indexes_of_a_metadata_folder() {
+        var indexes = new UuidIndexes(jsonHandler);
+
+        assertThat(indexes.get(metadataPath)).isSameAs(indexes.get(metadataPath.resolve("..").resolve(
+                metadataPath.getFileName())));
+    }
+}
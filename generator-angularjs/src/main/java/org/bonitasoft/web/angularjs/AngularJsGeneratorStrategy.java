@@ -28,7 +28,6 @@
 import org.bonitasoft.web.angularjs.visitor.HtmlBuilderVisitor;
 import org.bonitasoft.web.angularjs.visitor.ModelPropertiesVisitor;
 import org.bonitasoft.web.angularjs.visitor.PropertyValuesVisitor;
-import org.bonitasoft.web.angularjs.visitor.RequiredModulesVisitor;
 import org.bonitasoft.web.angularjs.visitor.VariableModelVisitor;
 import org.bonitasoft.web.angularjs.workspace.FragmentDirectiveBuilder;
 import org.bonitasoft.web.angularjs.workspace.WidgetDirectiveBuilder;
@@ -38,8 +37,8 @@
 import org.bonitasoft.web.designer.common.livebuild.AbstractLiveFileBuilder;
 import org.bonitasoft.web.designer.common.livebuild.Watcher;
 import org.bonitasoft.web.designer.common.repository.*;
-import org.bonitasoft.web.designer.common.visitor.AssetVisitor;
 import org.bonitasoft.web.designer.common.visitor.FragmentIdVisitor;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysisVisitor;
 import org.bonitasoft.web.designer.common.visitor.PageFactory;
 import org.bonitasoft.web.designer.common.visitor.WidgetIdVisitor;
 import org.bonitasoft.web.designer.model.JsonHandler;
@@ -91,23 +90,26 @@ public AngularJsGeneratorStrategy(JsonHandler jsonHandler,
                 directiveFileGenerator,
                 fragmentIdVisitor,
                 fragmentRepository);
-        var requiredModulesVisitor = new RequiredModulesVisitor(widgetRepository, fragmentRepository);
-        var assetVisitor = new AssetVisitor(widgetRepository, fragmentRepository);
+        var pageAnalysisVisitor = new PageAnalysisVisitor(widgetRepository, fragmentRepository);
 
         this.htmlGenerator = new DefaultHtmlGenerator(
                 this.htmlBuilderVisitor,
-                directivesCollector, requiredModulesVisitor,
-                assetVisitor,
+                directivesCollector,
+                pageAnalysisVisitor,
                 widgetAssetRepository,
                 pageAssetRepository,
                 pageFactories,
                 modelVersion);
+        this.htmlGenerator.setHtmlNormalizationEnabled(generatorProperties.isHtmlNormalizationEnabled());
+        this.htmlGenerator.setInstrumentation(generatorProperties.getInstrumentation());
         this.fragmentDirectiveBuilder = new FragmentDirectiveBuilder(watcher, jsonHandler,
                 this.getHtmlBuilderVisitor(),
                 this.generatorProperties.isLiveBuildEnabled());
 
         this.widgetFileBuilder = new WidgetDirectiveBuilder(watcher,
-                new WidgetFileBasedLoader(jsonHandler), this.generatorProperties.isLiveBuildEnabled());
+                new WidgetFileBasedLoader(jsonHandler), this.generatorProperties.isLiveBuildEnabled(),
+                directiveFileGenerator.getDirectiveStore());
+        directiveFileGenerator.getDirectiveStore().watch(watcher, widgetUserRepoPath);
     }
 
     public ExportStep[] getPageExportStep() {
@@ -22,6 +22,7 @@
 import java.nio.file.Path;
 
 import org.bonitasoft.web.designer.common.IGeneratorProperties;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -36,6 +37,17 @@ public class GeneratorProperties implements IGeneratorProperties {
     @Setter
     private boolean isLiveBuildEnabled = true;
 
+    @Getter
+    @Setter
+    private boolean isHtmlNormalizationEnabled = true;
+
+    /**
+     * Instrumentation receiving the timings of the generation phases
+     */
+    @Getter
+    @Setter
+    private Instrumentation instrumentation = Instrumentation.NONE;
+
     public GeneratorProperties(Path uidWorkspace) {
         this.path = uidWorkspace;
     }
@@ -0,0 +1,309 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.angularjs.export;
+
+import java.util.Arrays;
+
+import inconspicuous.jsmin.JSMin;
+import inconspicuous.jsmin.JSMin.UnterminatedCommentException;
+import inconspicuous.jsmin.JSMin.UnterminatedRegExpLiteralException;
+import inconspicuous.jsmin.JSMin.UnterminatedStringLiteralException;
+
+/**
+ * {@link JSMin} working on an in memory content: characters are read from a byte array and written to a byte array
+ * instead of going one by one through streams. The algorithm is the same, so is the output, byte for byte.
+ * <p>
+ * Peeking at the end of the content behaves as {@link JSMin} does with its {@link java.io.PushbackInputStream}: the
+ * end of stream pushed back is read again as a <code>0xFF</code> byte.
+ */
+final class ByteArrayJSMin {
+
+    private static final int EOF = -1;
+    private static final int PUSHED_BACK_EOF = 0xFF;
+
+    private final byte[] in;
+    private int position;
+    private boolean eofPushedBack;
+
+    private byte[] out;
+    private int count;
+
+    private int theA;
+    private int theB;
+    private int theX = EOF;
+    private int theY = EOF;
+
+    private ByteArrayJSMin(byte[] in) {
+        this.in = in;
+        this.out = new byte[Math.max(16, in.length)];
+    }
+
+    /**
+     * Copy the content deleting the characters which are insignificant to JavaScript, see {@link JSMin#jsmin()}
+     */
+    static byte[] minify(byte[] content) throws UnterminatedRegExpLiteralException, UnterminatedCommentException,
+            UnterminatedStringLiteralException {
+        var jsmin = new ByteArrayJSMin(content);
+        jsmin.jsmin();
+        return Arrays.copyOf(jsmin.out, jsmin.count);
+    }
+
+    private static boolean isAlphanum(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || (c >= 'A' && c <= 'Z') || c == '_' || c == '$' || c == '\\' || c > 126;
+    }
+
+    private int read() {
+        if (eofPushedBack) {
+            eofPushedBack = false;
+            return PUSHED_BACK_EOF;
+        }
+        return position < in.length ? in[position++] & 0xFF : EOF;
+    }
+
+    private int get() {
+        var c = read();
+        if (c >= ' ' || c == '\n' || c == EOF) {
+            return c;
+        }
+        if (c == '\r') {
+            return '\n';
+        }
+        return ' ';
+    }
+
+    private int peek() {
+        var c = read();
+        if (c == EOF) {
+            eofPushedBack = true;
+        } else {
+            position--;
+        }
+        return c;
+    }
+
+    private void write(int c) {
+        if (count == out.length) {
+            out = Arrays.copyOf(out, out.length << 1);
+        }
+        out[count++] = (byte) c;
+    }
+
+    private int next() throws UnterminatedCommentException {
+        var c = get();
+        if (c == '/') {
+            var lookahead = peek();
+            if (lookahead == '/') {
+                do {
+                    c = get();
+                } while (c > '\n');
+            } else if (lookahead == '*') {
+                get();
+                while (c != ' ') {
+                    var d = get();
+                    if (d == '*') {
+                        if (peek() == '/') {
+                            get();
+                            c = ' ';
+                        }
+                    } else if (d == EOF) {
+                        throw new UnterminatedCommentException();
+                    }
+                }
+            }
+        }
+        theY = theX;
+        theX = c;
+        return c;
+    }
+
+    /**
+     * Output A, copy B to A and get the next B
+     */
+    private void outputA() throws UnterminatedRegExpLiteralException, UnterminatedCommentException,
+            UnterminatedStringLiteralException {
+        write(theA);
+        if (theA == theB && (theA == '+' || theA == '-') && theY != theA) {
+            write(' ');
+        }
+        deleteA();
+    }
+
+    /**
+     * Copy B to A, get the next B. Strings are copied as a single character.
+     */
+    private void deleteA() throws UnterminatedRegExpLiteralException, UnterminatedCommentException,
+            UnterminatedStringLiteralException {
+        theA = theB;
+        if (theA == '\'' || theA == '"' || theA == '`') {
+            for (;;) {
+                write(theA);
+                theA = get();
+                if (theA == theB) {
+                    break;
+                }
+                if (theA <= '\n') {
+                    throw new UnterminatedStringLiteralException();
+                }
+                if (theA == '\\') {
+                    write(theA);
+                    theA = get();
+                }
+            }
+        }
+        deleteB();
+    }
+
+    /**
+     * Get the next B. A regular expression preceded by one of <code>(,=:[!&|?+-~*&#47;{</code> or a new line is copied
+     * as a single character.
+     */
+    private void deleteB() throws UnterminatedRegExpLiteralException, UnterminatedCommentException {
+        theB = next();
+        if (theB == '/' && isRegExpPrefix(theA)) {
+            write(theA);
+            if (theA == '/' || theA == '*') {
+                write(' ');
+            }
+            write(theB);
+            for (;;) {
+                theA = get();
+                if (theA == '[') {
+                    for (;;) {
+                        write(theA);
+                        theA = get();
+                        if (theA == ']') {
+                            break;
+                        }
+                        if (theA == '\\') {
+                            write(theA);
+                            theA = get();
+                        }
+                        if (theA <= '\n') {
+                            throw new UnterminatedRegExpLiteralException();
+                        }
+                    }
+                } else if (theA == '/') {
+                    var lookahead = peek();
+                    if (lookahead == '/' || lookahead == '*') {
+                        throw new UnterminatedRegExpLiteralException();
+                    }
+                    break;
+                } else if (theA == '\\') {
+                    write(theA);
+                    theA = get();
+                } else if (theA <= '\n') {
+                    throw new UnterminatedRegExpLiteralException();
+                }
+                write(theA);
+            }
+            theB = next();
+        }
+    }
+
+    private static boolean isRegExpPrefix(int c) {
+        switch (c) {
+            case '(':
+            case ',':
+            case '=':
+            case ':':
+            case '[':
+            case '!':
+            case '&':
+            case '|':
+            case '?':
+            case '+':
+            case '-':
+            case '~':
+            case '*':
+            case '/':
+            case '{':
+            case '\n':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void jsmin() throws UnterminatedRegExpLiteralException, UnterminatedCommentException,
+            UnterminatedStringLiteralException {
+        if (peek() == 0xEF) {
+            get();
+            get();
+            get();
+        }
+        theA = '\n';
+        deleteB();
+        while (theA != EOF) {
+            if (theA == ' ') {
+                if (isAlphanum(theB)) {
+                    outputA();
+                } else {
+                    deleteA();
+                }
+            } else if (theA == '\n') {
+                switch (theB) {
+                    case '{':
+                    case '[':
+                    case '(':
+                    case '+':
+                    case '-':
+                    case '!':
+                    case '~':
+                        outputA();
+                        break;
+                    case ' ':
+                        deleteB();
+                        break;
+                    default:
+                        if (isAlphanum(theB)) {
+                            outputA();
+                        } else {
+                            deleteA();
+                        }
+                }
+            } else if (theB == ' ') {
+                if (isAlphanum(theA)) {
+                    outputA();
+                } else {
+                    deleteB();
+                }
+            } else if (theB == '\n') {
+                switch (theA) {
+                    case '}':
+                    case ']':
+                    case ')':
+                    case '+':
+                    case '-':
+                    case '"':
+                    case '\'':
+                    case '`':
+                        outputA();
+                        break;
+                    default:
+                        if (isAlphanum(theA)) {
+                            outputA();
+                        } else {
+                            deleteB();
+                        }
+                }
+            } else {
+                outputA();
+            }
+        }
+    }
+}
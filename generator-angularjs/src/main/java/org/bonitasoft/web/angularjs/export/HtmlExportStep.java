@@ -20,7 +20,9 @@
 import static org.bonitasoft.web.designer.common.export.Zipper.ALL_DIRECTORIES;
 import static org.bonitasoft.web.designer.common.export.Zipper.ALL_FILES;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
@@ -46,7 +48,10 @@ public void execute(Zipper zipper, Page page) throws IOException {
                 ALL_FILES,
                 RESOURCES);
 
-        byte[] html = generator.generateHtml(page).getBytes(StandardCharsets.UTF_8);
-        zipper.addToZip(html, RESOURCES + "/index.html");
+        zipper.addToZip(out -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            generator.generateHtml(page, "", writer);
+            writer.flush();
+        }, RESOURCES + "/index.html");
     }
 }
@@ -16,10 +16,6 @@
  */
 package org.bonitasoft.web.angularjs.export;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 
 import inconspicuous.jsmin.JSMin;
@@ -27,12 +23,8 @@
 public final class Minifier {
 
     public static byte[] minify(byte[] contentToMinify) {
-        try (var bis = new ByteArrayInputStream(contentToMinify); var out = new ByteArrayOutputStream()) {
-            var jsmin = new JSMin(bis, out);
-            jsmin.jsmin();
-            return out.toByteArray();
-        } catch (IOException e) {
-            throw new GenerationException("Error when minify", e);
+        try {
+            return ByteArrayJSMin.minify(contentToMinify);
         } catch (JSMin.UnterminatedCommentException e) {
             throw new GenerationException("Error when minify: Unterminated Comment", e);
         } catch (JSMin.UnterminatedStringLiteralException e) {
@@ -20,9 +20,7 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.angularjs.rendering.DirectiveFileGenerator;
 import org.bonitasoft.web.designer.common.export.ExportStep;
 import org.bonitasoft.web.designer.common.export.Zipper;
@@ -51,9 +49,7 @@ public void execute(Zipper zipper, T page) throws IOException {
                 RESOURCES + "/widgets");
 
         // Export widgets.js
-        List<Path> files = directiveFileGenerator.getWidgetsFilesUsedInPage(page);
-        byte[] content = directiveFileGenerator.concatenate(files);
-        content = Minifier.minify(content);
-        zipper.addToZip(content, RESOURCES + "/js/widgets-" + DigestUtils.sha1Hex(content) + ".min.js");
+        var bundle = directiveFileGenerator.getDirectivesBundle(page);
+        zipper.addToZip(bundle.getContent(), RESOURCES + "/js/widgets-" + bundle.getHash() + ".min.js");
     }
 }
@@ -20,19 +20,22 @@
 import static org.bonitasoft.web.designer.model.asset.Asset.getComparatorByComponentId;
 import static org.bonitasoft.web.designer.model.asset.Asset.getComparatorByOrder;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.angularjs.visitor.HtmlBuilderVisitor;
-import org.bonitasoft.web.angularjs.visitor.RequiredModulesVisitor;
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 import org.bonitasoft.web.designer.common.generator.rendering.HtmlGenerator;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
 import org.bonitasoft.web.designer.common.repository.AssetRepository;
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
-import org.bonitasoft.web.designer.common.visitor.AssetVisitor;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysisVisitor;
 import org.bonitasoft.web.designer.common.visitor.PageFactory;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.asset.Asset;
@@ -50,8 +53,7 @@ public class DefaultHtmlGenerator implements HtmlGenerator {
 
     private static final Logger logger = LoggerFactory.getLogger(HtmlBuilderVisitor.class);
     private final DirectivesCollector directivesCollector;
-    private final RequiredModulesVisitor requiredModulesVisitor;
-    private final AssetVisitor assetVisitor;
+    private final PageAnalysisVisitor pageAnalysisVisitor;
     private final HtmlBuilderVisitor htmlBuilderVisitor;
     private final AssetRepository<Widget> widgetAssetRepository;
     private final AssetRepository<Page> pageAssetRepository;
@@ -60,18 +62,23 @@ public class DefaultHtmlGenerator implements HtmlGenerator {
 
     private String modelVersion;
 
+    /**
+     * Whether generated html is parsed and serialized again to be normalized
+     */
+    private boolean htmlNormalizationEnabled = true;
+
+    private Instrumentation instrumentation = Instrumentation.NONE;
+
     public DefaultHtmlGenerator(HtmlBuilderVisitor htmlBuilderVisitor,
             DirectivesCollector directivesCollector,
-            RequiredModulesVisitor requiredModulesVisitor,
-            AssetVisitor assetVisitor,
+            PageAnalysisVisitor pageAnalysisVisitor,
             AssetRepository<Widget> widgetAssetRepository,
             AssetRepository<Page> pageAssetRepository,
             List<PageFactory> pageFactories,
             String modelVersion) {
         this.htmlBuilderVisitor = htmlBuilderVisitor;
         this.directivesCollector = directivesCollector;
-        this.requiredModulesVisitor = requiredModulesVisitor;
-        this.assetVisitor = assetVisitor;
+        this.pageAnalysisVisitor = pageAnalysisVisitor;
         this.widgetAssetRepository = widgetAssetRepository;
         this.pageAssetRepository = pageAssetRepository;
         this.pageFactories = pageFactories;
@@ -86,44 +93,115 @@ public <P extends Previewable & Identifiable> String generateHtml(P previewable)
     public <P extends Previewable & Identifiable> String generateHtml(P previewable, String resourceContext)
             throws GenerationException {
         try {
-            return format(this.build(previewable, resourceContext));
+            var html = this.build(previewable, resourceContext);
+            return htmlNormalizationEnabled ? format(html) : html;
+        } catch (RepositoryException e) {
+            throw new GenerationException("Error while generating page", e);
+        }
+    }
+
+    /**
+     * Write the html of the previewable to the given writer. Html is streamed into the writer, without being built in
+     * memory, unless html normalization is enabled.
+     */
+    @Override
+    public <P extends Previewable & Identifiable> void generateHtml(P previewable, String resourceContext,
+            Writer writer) throws IOException {
+        if (htmlNormalizationEnabled) {
+            writer.write(generateHtml(previewable, resourceContext));
+            return;
+        }
+        try {
+            this.write(previewable, resourceContext, writer);
         } catch (RepositoryException e) {
             throw new GenerationException("Error while generating page", e);
         }
     }
 
+    public void setHtmlNormalizationEnabled(boolean htmlNormalizationEnabled) {
+        this.htmlNormalizationEnabled = htmlNormalizationEnabled;
+    }
+
+    /**
+     * Instrumentation receiving the timings of the page analysis, of each page factory and of the template application
+     */
+    public void setInstrumentation(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
     /**
      * Build a previewable HTML, based on the given list of widgets
+     * The element tree is traversed once by the {@link PageAnalysisVisitor}, every part of the page is then generated
+     * from the resulting analysis.
      * TODO: once resourceContext remove we can merge this method with HtmlBuilderVisitor#visit(Previewable)
      *
      * @param previewable to build
      * @param resourceContext the URL context can change on export or preview...
      */
     public <P extends Previewable & Identifiable> String build(final P previewable, String resourceContext) {
-        var sortedAssets = getSortedAssets(previewable);
+        var html = new StringWriter();
+        write(previewable, resourceContext, html);
+        return html.toString();
+    }
+
+    /**
+     * Same as {@link #build(Previewable, String)}, writing the html straight into the given output
+     */
+    public <P extends Previewable & Identifiable> void write(final P previewable, String resourceContext,
+            Appendable out) {
+        var analysisTimer = instrumentation.start(Instrumentation.VISITOR + "PageAnalysisVisitor");
+        var analysis = pageAnalysisVisitor.analyze(previewable);
+        analysisTimer.stop();
+        var sortedAssets = getSortedAssets(analysis);
         var template = new TemplateEngine("page.hbs.html")
                 .with("resourceContext", resourceContext == null ? "" : resourceContext)
                 .with("uidModelVersion", modelVersion)
                 .with("directives",
-                        this.directivesCollector.buildUniqueDirectivesFiles(previewable, previewable.getId()))
-                .with("rowsHtml", htmlBuilderVisitor.build(previewable.getRows()))
+                        this.directivesCollector.buildUniqueDirectivesFiles(previewable, previewable.getId(),
+                                analysis))
+                .with("rowsHtml", htmlBuilderVisitor.markup(previewable.getRows(), analysis))
                 .with("jsAsset", getAssetHtmlSrcList(previewable.getId(), AssetType.JAVASCRIPT, sortedAssets))
                 .with("cssAsset", getAssetHtmlSrcList(previewable.getId(), AssetType.CSS, sortedAssets))
                 .with("factories",
-                        this.pageFactories.stream().map(factory -> factory.generate(previewable)).collect(toList()));
+                        this.pageFactories.stream().map(factory -> generate(factory, previewable, analysis))
+                                .collect(toList()));
 
-        var modules = this.requiredModulesVisitor.visit(previewable);
+        var modules = analysis.getRequiredModules();
         if (!modules.isEmpty()) {
             template = template.with("modules", modules);
         }
-        return template.build(previewable);
+        // rows html is only rendered when the template is applied, so its visitor pass is part of the template timing
+        var templateTimer = instrumentation.start(Instrumentation.TEMPLATE);
+        if (instrumentation == Instrumentation.NONE) {
+            template.build(previewable, out);
+            templateTimer.stop();
+        } else {
+            var counted = new CountingAppendable(out);
+            template.build(previewable, counted);
+            templateTimer.stop(counted.count);
+        }
+    }
+
+    private <P extends Previewable & Identifiable> String generate(PageFactory factory, P previewable,
+            PageAnalysis analysis) {
+        var timer = instrumentation.start(Instrumentation.VISITOR + factory.getClass().getSimpleName());
+        var generated = factory.generate(previewable, analysis);
+        timer.stop(generated == null ? 0 : generated.length());
+        return generated;
     }
 
     /**
      * Return the list of the previewable assets sorted with only active assets
      */
     protected <P extends Previewable & Identifiable> List<Asset> getSortedAssets(P previewable) {
-        return this.assetVisitor.visit(previewable).stream().filter(Asset::isActive)
+        return getSortedAssets(pageAnalysisVisitor.analyze(previewable));
+    }
+
+    /**
+     * Same as {@link #getSortedAssets(Previewable)} for a previewable which has already been analysed
+     */
+    protected List<Asset> getSortedAssets(PageAnalysis analysis) {
+        return analysis.getAssets().stream().filter(Asset::isActive)
                 .sorted(getComparatorByComponentId().thenComparing(getComparatorByOrder()))
                 .collect(Collectors.toList());
     }
@@ -155,15 +233,49 @@ private List<String> getAssetHtmlSrcList(String previewableId, AssetType assetTy
 
     private String getHash(Asset asset, AssetRepository<?> assetRepository, String previewableId) {
         try {
-            var content = asset.getComponentId() == null ? assetRepository.readAllBytes(previewableId, asset)
-                    : assetRepository.readAllBytes(asset);
-            return DigestUtils.sha1Hex(content);
+            return asset.getComponentId() == null ? assetRepository.getHash(previewableId, asset)
+                    : assetRepository.getHash(asset);
         } catch (Exception e) {
             logger.warn("Failure to generate hash for asset {}", asset.getName(), e);
             return UUID.randomUUID().toString();
         }
     }
 
+    /**
+     * Count of the characters appended to an output
+     */
+    private static class CountingAppendable implements Appendable {
+
+        private final Appendable out;
+        private long count;
+
+        CountingAppendable(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            var chars = csq == null ? "null" : csq;
+            out.append(chars);
+            count += chars.length();
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            out.append(csq == null ? "null" : csq, start, end);
+            count += end - start;
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            out.append(c);
+            count++;
+            return this;
+        }
+    }
+
     private String format(String html) {
         Parser parser = Parser.htmlParser();
         parser.settings(new ParseSettings(true, true)); // tag, attribute preserve case
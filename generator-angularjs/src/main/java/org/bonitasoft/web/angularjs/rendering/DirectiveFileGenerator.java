@@ -18,14 +18,16 @@
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.apache.commons.codec.digest.DigestUtils;
-import org.bonitasoft.web.angularjs.export.Minifier;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
 import org.bonitasoft.web.designer.common.repository.WidgetRepository;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
 import org.bonitasoft.web.designer.common.visitor.WidgetIdVisitor;
 import org.bonitasoft.web.designer.model.page.Previewable;
+import org.bonitasoft.web.designer.model.widget.Widget;
 
 /**
  * @author Benjamin Parisel
@@ -35,38 +37,72 @@ public class DirectiveFileGenerator {
     private final Path widgetPath;
     private final WidgetRepository widgetRepository;
     private final WidgetIdVisitor widgetIdVisitor;
+    private final DirectiveStore directiveStore;
+    private final DirectivesBundleCache bundleCache;
 
     public DirectiveFileGenerator(Path widgetPath,
             WidgetRepository widgetRepository,
             WidgetIdVisitor widgetIdVisitor) {
+        this(widgetPath, widgetRepository, widgetIdVisitor, Instrumentation.NONE);
+    }
+
+    public DirectiveFileGenerator(Path widgetPath,
+            WidgetRepository widgetRepository,
+            WidgetIdVisitor widgetIdVisitor,
+            Instrumentation instrumentation) {
         this.widgetPath = widgetPath;
         this.widgetRepository = widgetRepository;
         this.widgetIdVisitor = widgetIdVisitor;
+        this.directiveStore = new DirectiveStore(instrumentation);
+        this.bundleCache = new DirectivesBundleCache(directiveStore, instrumentation);
     }
 
     public List<Path> getWidgetsFilesUsedInPage(Previewable previewable) {
-        return widgetRepository.getByIds(widgetIdVisitor.visit(previewable)).stream()
+        return getWidgetsFiles(widgetRepository.getByIds(widgetIdVisitor.visit(previewable)));
+    }
+
+    private List<Path> getWidgetsFiles(Collection<Widget> widgets) {
+        return widgets.stream()
                 .filter(widget -> !"pbContainer".equals(widget.getId()))
                 .map(w -> Paths.get(w.getId()).resolve(w.getId() + ".js"))
                 .map(widgetPath::resolve)
                 .collect(Collectors.toList());
     }
 
-    public byte[] concatenate(List<Path> paths) {
-        return FilesConcatenator.concat(paths);
+    /**
+     * Store of the widget directives, filled when directives are built
+     */
+    public DirectiveStore getDirectiveStore() {
+        return directiveStore;
     }
 
-    public byte[] minify(byte[] content) {
-        return Minifier.minify(content);
+    /**
+     * Get the minified bundle of the directives of the widgets used in a page, reusing already minified widgets and
+     * bundles when their directive files did not change
+     */
+    public DirectivesBundleCache.Bundle getDirectivesBundle(Previewable previewable) {
+        return bundleCache.getBundle(getWidgetsFilesUsedInPage(previewable));
+    }
+
+    /**
+     * Same as {@link #getDirectivesBundle(Previewable)} for a page which widgets have already been loaded by a
+     * {@link PageAnalysis}
+     */
+    public DirectivesBundleCache.Bundle getDirectivesBundle(PageAnalysis analysis) {
+        return bundleCache.getBundle(getWidgetsFiles(analysis.getWidgets().values()));
     }
 
     public String generateAllDirectivesFilesInOne(Previewable previewable, Path path) {
-        var filename = getWidgetsFilesUsedInPage(previewable);
-        byte[] content = concatenate(filename);
-        content = minify(content);
-        String fileHash = DigestUtils.sha1Hex(content);
-        WidgetFileHelper.deleteOldConcatenateFiles(path, fileHash);
-        Path file = WidgetFileHelper.writeFile(content, path, fileHash + ".min");
+        return writeBundle(getDirectivesBundle(previewable), path);
+    }
+
+    public String generateAllDirectivesFilesInOne(PageAnalysis analysis, Path path) {
+        return writeBundle(getDirectivesBundle(analysis), path);
+    }
+
+    private String writeBundle(DirectivesBundleCache.Bundle bundle, Path path) {
+        WidgetFileHelper.deleteOldConcatenateFiles(path, bundle.getHash());
+        Path file = WidgetFileHelper.writeFile(bundle.getContent(), path, bundle.getHash() + ".min");
         return file.getFileName().toString();
     }
 }
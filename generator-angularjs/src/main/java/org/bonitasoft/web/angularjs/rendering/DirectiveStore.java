@@ -0,0 +1,177 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.angularjs.rendering;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bonitasoft.web.angularjs.export.Minifier;
+import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
+import org.bonitasoft.web.designer.common.livebuild.Watcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Widget directives kept in memory by directive file. Directives are put in the store when they are built, so bundles
+ * are composed without reading the directive files again. A directive file is only read when it is not in the store
+ * or when the {@link Watcher} of its directory notified a change since it was stored, e.g. when it was written by
+ * another process. A store which directory is not watched only sees the directives it is given.
+ */
+public class DirectiveStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectiveStore.class);
+
+    private final Map<Path, Directive> directives = new ConcurrentHashMap<>();
+    private final Instrumentation instrumentation;
+
+    public DirectiveStore() {
+        this(Instrumentation.NONE);
+    }
+
+    /**
+     * @param instrumentation receives the timings of the directives hashing and minification
+     */
+    public DirectiveStore(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Read again the directives of the given directory which the watcher notifies as changed
+     */
+    public void watch(Watcher watcher, Path directory) {
+        watcher.watch(directory, this::invalidate);
+    }
+
+    /**
+     * Keep a directive which has just been written to the given file. It is minified right away, when it is built,
+     * rather than by the first rendering using it.
+     */
+    public void put(Path directiveFile, byte[] source) {
+        var directive = new Directive(source, hash(source), instrumentation);
+        try {
+            directive.getMinified();
+        } catch (GenerationException e) {
+            // renderings using this directive try again to minify it
+            logger.warn("Failure to minify directive {}", directiveFile, e);
+        }
+        directives.put(key(directiveFile), directive);
+    }
+
+    /**
+     * Up to date directive of the given file
+     */
+    public Directive get(Path directiveFile) {
+        var key = key(directiveFile);
+        var directive = directives.get(key);
+        if (directive != null && !directive.stale) {
+            return directive;
+        }
+        try {
+            var source = Files.readAllBytes(directiveFile);
+            var hash = hash(source);
+            if (directive != null && directive.hash.equals(hash)) {
+                // touched but not changed, keep the already minified content
+                directive = directive.refreshed();
+            } else {
+                directive = new Directive(source, hash, instrumentation);
+            }
+            directives.put(key, directive);
+            return directive;
+        } catch (IOException e) {
+            throw new GenerationException("Error while content generating ", e);
+        }
+    }
+
+    /**
+     * Read the directive of the given file again on next use
+     */
+    void invalidate(Path directiveFile) {
+        directives.computeIfPresent(key(directiveFile), (key, directive) -> directive.stale());
+    }
+
+    private String hash(byte[] source) {
+        var timer = instrumentation.start(Instrumentation.HASH);
+        var hash = DigestUtils.sha1Hex(source);
+        timer.stop(source.length);
+        return hash;
+    }
+
+    private static Path key(Path directiveFile) {
+        return directiveFile.toAbsolutePath().normalize();
+    }
+
+    /**
+     * A widget directive source, with its SHA-1 and its minified content. Contents are shared and must not be
+     * modified.
+     */
+    public static class Directive {
+
+        private final byte[] source;
+        private final String hash;
+        private final Instrumentation instrumentation;
+        private final boolean stale;
+        private volatile byte[] minified;
+
+        private Directive(byte[] source, String hash, Instrumentation instrumentation) {
+            this(source, hash, instrumentation, false, null);
+        }
+
+        private Directive(byte[] source, String hash, Instrumentation instrumentation, boolean stale,
+                byte[] minified) {
+            this.source = source;
+            this.hash = hash;
+            this.instrumentation = instrumentation;
+            this.stale = stale;
+            this.minified = minified;
+        }
+
+        private Directive stale() {
+            return new Directive(source, hash, instrumentation, true, minified);
+        }
+
+        private Directive refreshed() {
+            return new Directive(source, hash, instrumentation, false, minified);
+        }
+
+        public byte[] getSource() {
+            return source;
+        }
+
+        /**
+         * SHA-1 of the directive source
+         */
+        public String getHash() {
+            return hash;
+        }
+
+        public byte[] getMinified() {
+            var content = minified;
+            if (content == null) {
+                var timer = instrumentation.start(Instrumentation.MINIFY);
+                content = Minifier.minify(source);
+                timer.stop(source.length);
+                minified = content;
+            }
+            return content;
+        }
+    }
+}
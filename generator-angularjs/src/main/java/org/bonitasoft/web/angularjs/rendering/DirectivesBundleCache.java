@@ -0,0 +1,137 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.angularjs.rendering;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bonitasoft.web.designer.common.instrumentation.Instrumentation;
+
+/**
+ * Bundles of minified widget directives, kept by the hashes of the directives they contain. Directives are taken from
+ * a {@link DirectiveStore}, so a directive is minified again only when its file changes, and pages using the same set
+ * of widgets share the same bundle.
+ */
+public class DirectivesBundleCache {
+
+    private static final int MAX_BUNDLES = 64;
+
+    private final DirectiveStore directiveStore;
+    private final Instrumentation instrumentation;
+
+    private final Map<String, Bundle> bundles = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bundle> eldest) {
+            return size() > MAX_BUNDLES;
+        }
+    };
+
+    public DirectivesBundleCache(DirectiveStore directiveStore) {
+        this(directiveStore, Instrumentation.NONE);
+    }
+
+    /**
+     * @param instrumentation receives the timings of the bundles concatenation and hashing
+     */
+    public DirectivesBundleCache(DirectiveStore directiveStore, Instrumentation instrumentation) {
+        this.directiveStore = directiveStore;
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Get the minified bundle of the given directive files. Directives are added in the bundle in file path order,
+     * each one on its own line.
+     */
+    public Bundle getBundle(List<Path> directiveFiles) {
+        var directives = directiveFiles.stream()
+                .sorted()
+                .map(directiveStore::get)
+                .collect(toList());
+        var key = directives.stream()
+                .map(DirectiveStore.Directive::getHash)
+                .sorted()
+                .collect(joining(","));
+        synchronized (bundles) {
+            var bundle = bundles.get(key);
+            if (bundle == null) {
+                var content = concat(directives);
+                var timer = instrumentation.start(Instrumentation.HASH);
+                bundle = new Bundle(content);
+                timer.stop(content.length);
+                bundles.put(key, bundle);
+            }
+            return bundle;
+        }
+    }
+
+    private byte[] concat(List<DirectiveStore.Directive> directives) {
+        var minifiedDirectives = directives.stream().map(DirectiveStore.Directive::getMinified).collect(toList());
+        var timer = instrumentation.start(Instrumentation.CONCAT);
+        // JSMin output starts with a line feed, keep directives on separated lines whatever it does
+        var size = 0;
+        for (var minified : minifiedDirectives) {
+            size += minified.length + (needsLineFeed(size, minified) ? 1 : 0);
+        }
+        var content = new byte[size];
+        var position = 0;
+        for (var minified : minifiedDirectives) {
+            if (needsLineFeed(position, minified)) {
+                content[position++] = '\n';
+            }
+            System.arraycopy(minified, 0, content, position, minified.length);
+            position += minified.length;
+        }
+        timer.stop(content.length);
+        return content;
+    }
+
+    private static boolean needsLineFeed(int position, byte[] minified) {
+        return position > 0 && (minified.length == 0 || minified[0] != '\n');
+    }
+
+    /**
+     * A minified bundle of widget directives. Its content is shared and must not be modified.
+     */
+    public static class Bundle {
+
+        private final byte[] content;
+        private final String hash;
+
+        Bundle(byte[] content) {
+            this.content = content;
+            this.hash = DigestUtils.sha1Hex(content);
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        /**
+         * SHA-1 of the bundle content
+         */
+        public String getHash() {
+            return hash;
+        }
+    }
+}
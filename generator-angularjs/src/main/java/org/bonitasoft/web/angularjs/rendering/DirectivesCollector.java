@@ -23,14 +23,18 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 import org.bonitasoft.web.designer.common.repository.FragmentRepository;
+import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
 import org.bonitasoft.web.designer.common.visitor.FragmentIdVisitor;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
 import org.bonitasoft.web.designer.model.JsonHandler;
 import org.bonitasoft.web.designer.model.fragment.Fragment;
 import org.bonitasoft.web.designer.model.page.Previewable;
@@ -68,17 +72,33 @@ public DirectivesCollector(JsonHandler jsonHandler,
     }
 
     public List<String> buildUniqueDirectivesFiles(Previewable previewable, String pageId) {
+        return buildUniqueDirectivesFiles(previewable, pageId,
+                path -> directiveFileGenerator.generateAllDirectivesFilesInOne(previewable, path),
+                () -> fragmentIdVisitor.visit(previewable));
+    }
+
+    /**
+     * Same as {@link #buildUniqueDirectivesFiles(Previewable, String)} reading used widgets and fragments from an
+     * already computed analysis of the previewable
+     */
+    public List<String> buildUniqueDirectivesFiles(Previewable previewable, String pageId, PageAnalysis analysis) {
+        return buildUniqueDirectivesFiles(previewable, pageId,
+                path -> directiveFileGenerator.generateAllDirectivesFilesInOne(analysis, path),
+                analysis::getFragmentIds);
+    }
+
+    private List<String> buildUniqueDirectivesFiles(Previewable previewable, String pageId,
+            Function<Path, String> directivesFileWriter, Supplier<Collection<String>> fragmentIds) {
         if (previewable instanceof Fragment) {
-            var filename = directiveFileGenerator.generateAllDirectivesFilesInOne(previewable,
+            var filename = directivesFileWriter.apply(
                     getDestinationFolderPath(tmpFragmentsRepositoryPath.resolve(pageId)));
             return List.of(filename);
         } else {
-            var filename = directiveFileGenerator.generateAllDirectivesFilesInOne(previewable,
-                    getDestinationFolderPath(
-                            tmpPagesRepositoryPath.resolve(pageId).resolve(JS_FOLDER)));
+            var filename = directivesFileWriter.apply(
+                    getDestinationFolderPath(tmpPagesRepositoryPath.resolve(pageId).resolve(JS_FOLDER)));
             var directives = new ArrayList<String>();
             directives.add(JS_FOLDER + "/" + filename);
-            directives.addAll(collectFragment(previewable));
+            directives.addAll(collectFragment(fragmentIds.get()));
             return directives;
         }
     }
@@ -94,19 +114,18 @@ protected Path getDestinationFolderPath(Path path) {
         }
     }
 
-    private List<String> collectFragment(Previewable previewable) {
-        return fragmentRepository.getByIds(fragmentIdVisitor.visit(previewable)).stream()
-                .map(fragment -> format("fragments/%s/%s.js?hash=%s", fragment.getId(), fragment.getId(),
-                        getHash(fragment)))
+    private List<String> collectFragment(Collection<String> fragmentIds) {
+        return fragmentIds.stream()
+                .map(fragmentId -> format("fragments/%s/%s.js?hash=%s", fragmentId, fragmentId,
+                        getHash(fragmentId)))
                 .collect(Collectors.toList());
     }
 
-    private String getHash(Fragment fragment) {
+    private String getHash(String fragmentId) {
         try {
-            byte[] content = this.jsonHandler.toJson(fragment);
-            return DigestUtils.sha1Hex(content);
-        } catch (Exception e) {
-            logger.warn("Failure to generate hash for fragment " + fragment.getName(), e);
+            return fragmentRepository.getHash(fragmentId);
+        } catch (RepositoryException e) {
+            logger.warn("Failure to generate hash for fragment " + fragmentId, e);
             return UUID.randomUUID().toString();
         }
     }
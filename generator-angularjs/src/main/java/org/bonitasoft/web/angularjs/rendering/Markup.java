@@ -0,0 +1,60 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.angularjs.rendering;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
+
+/**
+ * A piece of html written straight into its destination when the enclosing template is applied, rather than being
+ * rendered as an intermediate String and copied into its parent. Templates write it with the <code>render</code>
+ * helper: <code>{{{render content}}}</code>.
+ */
+@FunctionalInterface
+public interface Markup {
+
+    void writeTo(Appendable out) throws IOException;
+
+    /**
+     * Markup writing each of the given parts one after the other, separated by the given separator
+     */
+    static Markup join(List<Markup> parts, String separator) {
+        return out -> {
+            for (var i = 0; i < parts.size(); i++) {
+                if (i > 0) {
+                    out.append(separator);
+                }
+                parts.get(i).writeTo(out);
+            }
+        };
+    }
+
+    /**
+     * Render the markup in a String
+     */
+    static String toString(Markup markup) {
+        var html = new StringBuilder();
+        try {
+            markup.writeTo(html);
+        } catch (IOException e) {
+            throw new GenerationException("Error while rendering markup", e);
+        }
+        return html.toString();
+    }
+}
@@ -17,8 +17,11 @@
 package org.bonitasoft.web.angularjs.rendering;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 import org.bonitasoft.web.designer.common.generator.rendering.IfEqualHelper;
@@ -28,28 +31,41 @@
 import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Jackson2Helper;
+import com.github.jknack.handlebars.Options;
+import com.github.jknack.handlebars.Template;
 import com.github.jknack.handlebars.helper.StringHelpers;
 import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
 
+/**
+ * Apply a handlebars template found in the classpath <code>templates</code> folder.
+ * <p>
+ * Templates are compiled once and shared by all engine instances, which only hold the model to apply them with.
+ */
 public class TemplateEngine {
 
-    private final Handlebars handlebars;
+    private static final Handlebars HANDLEBARS = createHandlebars();
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
     private final String location;
     private final Map<String, Object> model = new HashMap<>();
 
     public TemplateEngine(String template) {
+        location = "templates/" + template;
+    }
+
+    private static Handlebars createHandlebars() {
         var simpleFilterProvider = new SimpleFilterProvider();
         simpleFilterProvider.setFailOnUnknownId(false);
         var objectMapper = new ObjectMapper()
                 .setFilterProvider(simpleFilterProvider);
 
-        handlebars = new Handlebars(new ClassPathTemplateLoader("/", ""));
+        var handlebars = new Handlebars(new ClassPathTemplateLoader("/", ""));
         handlebars.registerHelper("json", new Jackson2Helper(objectMapper));
         handlebars.registerHelper("join", StringHelpers.join);
         handlebars.registerHelper("ifequal", IfEqualHelper.INSTANCE);
+        handlebars.registerHelper("render", TemplateEngine::render);
         handlebars.prettyPrint(true);
-
-        location = "templates/" + template;
+        return handlebars;
     }
 
     public TemplateEngine with(String key, Object value) {
@@ -59,11 +75,88 @@ public TemplateEngine with(String key, Object value) {
 
     public String build(Object context) throws GenerationException {
         try {
-            return handlebars
-                    .compile(location)
-                    .apply(Context.newBuilder(context).combine(model).build());
+            return compile(location).apply(Context.newBuilder(context).combine(model).build());
+        } catch (IOException e) {
+            throw new GenerationException("Error applying context to template <" + location + ">", e);
+        }
+    }
+
+    /**
+     * Apply the template directly into the given output
+     */
+    public void build(Object context, Appendable out) throws GenerationException {
+        try {
+            var writer = out instanceof Writer ? (Writer) out : new AppendableWriter(out);
+            compile(location).apply(Context.newBuilder(context).combine(model).build(), writer);
         } catch (IOException e) {
             throw new GenerationException("Error applying context to template <" + location + ">", e);
         }
     }
+
+    /**
+     * Defer the application of the template until the returned markup is written
+     */
+    public Markup markup(Object context) {
+        return out -> build(context, out);
+    }
+
+    /**
+     * <code>render</code> helper: write a {@link Markup} straight into the template output
+     */
+    private static Object render(Object value, Options options) throws IOException {
+        var buffer = options.buffer();
+        if (value instanceof Markup) {
+            ((Markup) value).writeTo(buffer);
+        } else if (value != null) {
+            buffer.append(value.toString());
+        }
+        return buffer;
+    }
+
+    static Template compile(String location) throws IOException {
+        var template = TEMPLATES.get(location);
+        if (template == null) {
+            template = HANDLEBARS.compile(location);
+            var existing = TEMPLATES.putIfAbsent(location, template);
+            if (existing != null) {
+                template = existing;
+            }
+        }
+        return template;
+    }
+
+    private static class AppendableWriter extends Writer {
+
+        private final Appendable out;
+
+        AppendableWriter(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            out.append(CharBuffer.wrap(buffer, offset, length));
+        }
+
+        @Override
+        public void write(String string, int offset, int length) throws IOException {
+            out.append(string, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence sequence) throws IOException {
+            out.append(sequence);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+            // nothing buffered
+        }
+
+        @Override
+        public void close() {
+            // the underlying output is owned by the caller
+        }
+    }
 }
@@ -16,107 +16,109 @@
  */
 package org.bonitasoft.web.angularjs.visitor;
 
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.bonitasoft.web.designer.model.widget.Widget.spinalCase;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import org.bonitasoft.web.angularjs.rendering.Markup;
 import org.bonitasoft.web.angularjs.rendering.TemplateEngine;
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
 import org.bonitasoft.web.designer.common.repository.FragmentRepository;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
+import org.bonitasoft.web.designer.model.fragment.Fragment;
 import org.bonitasoft.web.designer.model.page.*;
 import org.bonitasoft.web.designer.visitor.ElementVisitor;
 
-import lombok.RequiredArgsConstructor;
-
 /**
  * An element visitor which traverses the tree of elements recursively to collect html parts of a page
+ * <p>
+ * Html is built as {@link Markup}: nested templates are applied straight into the final output instead of being
+ * rendered as Strings and copied into the template of their parent.
  */
-@RequiredArgsConstructor
 public class HtmlBuilderVisitor implements ElementVisitor<String> {
 
     private static final String CONTENT = "content";
-    private final FragmentRepository fragmentRepository;
+    private final Function<String, Fragment> fragmentLoader;
+    private final MarkupVisitor markupVisitor = new MarkupVisitor();
 
-    @Override
-    public String visit(FragmentElement fragmentElement) {
+    public HtmlBuilderVisitor(FragmentRepository fragmentRepository) {
+        this(fragmentRepository::get);
+    }
 
-        try {
-            var fragment = fragmentRepository.get(fragmentElement.getId());
-            return new TemplateEngine("fragment.hbs.html")
-                    .with("reference", fragmentElement.getReference())
-                    .with("dimensionAsCssClasses", fragmentElement.getDimensionAsCssClasses())
-                    .with("tagName", spinalCase(fragment.getDirectiveName()))
-                    .build(fragment);
+    private HtmlBuilderVisitor(Function<String, Fragment> fragmentLoader) {
+        this.fragmentLoader = fragmentLoader;
+    }
 
-        } catch (RepositoryException | NotFoundException e) {
-            throw new GenerationException("Error while generating html for fragment " + fragmentElement.getId(), e);
-        }
+    @Override
+    public String visit(FragmentElement fragmentElement) {
+        return Markup.toString(markupVisitor.visit(fragmentElement));
     }
 
     @Override
     public String visit(Container container) {
-        return new TemplateEngine("container.hbs.html")
-                .with("rowsHtml", build(container.getRows()))
-                .build(container);
+        return Markup.toString(markupVisitor.visit(container));
     }
 
     public String build(List<List<Element>> rows) {
-        return new TemplateEngine("rows.hbs.html")
-                .with("rows",
-                        rows.stream()
-                                .map(elements -> elements.stream()
-                                        .map(element -> element.accept(HtmlBuilderVisitor.this))
-                                        .collect(joining("")))
-                                .collect(toList()))
-                .build(new Object());
+        return Markup.toString(markup(rows));
+    }
+
+    /**
+     * Build the html of the given rows, reading nested fragments from an already computed analysis instead of the
+     * repository
+     */
+    public String build(List<List<Element>> rows, PageAnalysis analysis) {
+        return Markup.toString(markup(rows, analysis));
+    }
+
+    /**
+     * Html of the given rows, only rendered when the returned markup is written
+     */
+    public Markup markup(List<List<Element>> rows) {
+        return Markup.join(rows.stream()
+                .map(elements -> new TemplateEngine("row.hbs.html")
+                        .with(CONTENT, Markup.join(elements.stream()
+                                .map(element -> element.accept(markupVisitor))
+                                .collect(toList()), ""))
+                        .markup(new Object()))
+                .collect(toList()), "");
+    }
+
+    /**
+     * Same as {@link #markup(List)} reading nested fragments from an already computed analysis
+     */
+    public Markup markup(List<List<Element>> rows, PageAnalysis analysis) {
+        return new HtmlBuilderVisitor(analysis::getFragment).markup(rows);
     }
 
     @Override
     public String visit(FormContainer formContainer) {
-        return new TemplateEngine("formContainer.hbs.html")
-                .with(CONTENT, formContainer.getContainer().accept(this))
-                .build(formContainer);
+        return Markup.toString(markupVisitor.visit(formContainer));
     }
 
     @Override
     public String visit(TabsContainer tabsContainer) {
-
-        var tabTemplates = new ArrayList<TabContainerTemplate>();
-        for (var tab : tabsContainer.getTabList()) {
-            tabTemplates.add(new TabContainerTemplate(tab.accept(this)));
-        }
-
-        return new TemplateEngine("tabsContainer.hbs.html")
-                .with("tabTemplates", tabTemplates)
-                .build(tabsContainer);
+        return Markup.toString(markupVisitor.visit(tabsContainer));
     }
 
     @Override
     public String visit(TabContainer tabContainer) {
-        return new TemplateEngine("tabContainer.hbs.html")
-                .with(CONTENT, tabContainer.getContainer().accept(this))
-                .build(tabContainer);
+        return Markup.toString(markupVisitor.visit(tabContainer));
     }
 
     @Override
     public String visit(ModalContainer modalContainer) {
-        return new TemplateEngine("modalContainer.hbs.html")
-                .with(CONTENT, modalContainer.getContainer().accept(this))
-                .with("modalidHtml", modalContainer.getPropertyValues().get("modalId").getValue())
-                .build(modalContainer);
+        return Markup.toString(markupVisitor.visit(modalContainer));
     }
 
     @Override
     public String visit(Component component) {
-        return new TemplateEngine("component.hbs.html")
-                .with("template", "<" + spinalCase(component.getId()) + "></" + spinalCase(component
-                        .getId()) + ">")
-                .build(component);
+        return Markup.toString(markupVisitor.visit(component));
     }
 
     @Override
@@ -125,16 +127,77 @@ public String visit(Previewable previewable) {
                 "HtmlBuilderVisitor#build.");
     }
 
-    static class TabContainerTemplate {
+    private class MarkupVisitor implements ElementVisitor<Markup> {
+
+        @Override
+        public Markup visit(FragmentElement fragmentElement) {
+            try {
+                var fragment = fragmentLoader.apply(fragmentElement.getId());
+                return new TemplateEngine("fragment.hbs.html")
+                        .with("reference", fragmentElement.getReference())
+                        .with("dimensionAsCssClasses", fragmentElement.getDimensionAsCssClasses())
+                        .with("tagName", spinalCase(fragment.getDirectiveName()))
+                        .markup(fragment);
+
+            } catch (RepositoryException | NotFoundException e) {
+                throw new GenerationException("Error while generating html for fragment " + fragmentElement.getId(),
+                        e);
+            }
+        }
+
+        @Override
+        public Markup visit(Container container) {
+            return new TemplateEngine("container.hbs.html")
+                    .with("rowsHtml", markup(container.getRows()))
+                    .markup(container);
+        }
+
+        @Override
+        public Markup visit(FormContainer formContainer) {
+            return new TemplateEngine("formContainer.hbs.html")
+                    .with(CONTENT, formContainer.getContainer().accept(this))
+                    .markup(formContainer);
+        }
+
+        @Override
+        public Markup visit(TabsContainer tabsContainer) {
+            var tabs = new ArrayList<Markup>();
+            for (var tab : tabsContainer.getTabList()) {
+                tabs.add(tab.accept(this));
+            }
+
+            return new TemplateEngine("tabsContainer.hbs.html")
+                    .with("tabsHtml", Markup.join(tabs, "\n"))
+                    .markup(tabsContainer);
+        }
 
-        private final String content;
+        @Override
+        public Markup visit(TabContainer tabContainer) {
+            return new TemplateEngine("tabContainer.hbs.html")
+                    .with(CONTENT, tabContainer.getContainer().accept(this))
+                    .markup(tabContainer);
+        }
+
+        @Override
+        public Markup visit(ModalContainer modalContainer) {
+            return new TemplateEngine("modalContainer.hbs.html")
+                    .with(CONTENT, modalContainer.getContainer().accept(this))
+                    .with("modalidHtml", modalContainer.getPropertyValues().get("modalId").getValue())
+                    .markup(modalContainer);
+        }
 
-        public TabContainerTemplate(String content) {
-            this.content = content;
+        @Override
+        public Markup visit(Component component) {
+            return new TemplateEngine("component.hbs.html")
+                    .with("template", "<" + spinalCase(component.getId()) + "></" + spinalCase(component
+                            .getId()) + ">")
+                    .markup(component);
         }
 
-        public String getContent() {
-            return content;
+        @Override
+        public Markup visit(Previewable previewable) {
+            throw new IllegalStateException("Can't build previewable html by visiting it. Need to call " +
+                    "HtmlBuilderVisitor#markup.");
         }
     }
 }
@@ -29,6 +29,7 @@
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
 import org.bonitasoft.web.designer.common.visitor.FragmentBindingValueTransformer;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
 import org.bonitasoft.web.designer.common.visitor.PageFactory;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.fragment.Fragment;
@@ -93,8 +94,15 @@ public <P extends Previewable & Identifiable> Map<String, Map<String, PropertyVa
     }
 
     public <P extends Previewable & Identifiable> String generate(P previewable) {
+        return generate(this.visit(previewable));
+    }
+
+    @Override
+    public <P extends Previewable & Identifiable> String generate(P previewable, PageAnalysis analysis) {
+        return generate(analysis.getModelProperties());
+    }
 
-        var resources = this.visit(previewable);
+    private String generate(Map<String, Map<String, PropertyValue>> resources) {
         return new TemplateEngine("factory.hbs.js")
                 .with("name", "modelProperties")
                 .with("resources", resources == null ? resources : new TreeMap<>(resources))
@@ -27,6 +27,7 @@
 import org.bonitasoft.web.designer.common.repository.FragmentRepository;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
 import org.bonitasoft.web.designer.common.visitor.PageFactory;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.page.*;
@@ -101,9 +102,18 @@ public Map<String, Map<String, PropertyValue>> visit(Previewable previewable) {
     }
 
     public <P extends Previewable & Identifiable> String generate(P previewable) {
+        return generate(this.visit(previewable));
+    }
+
+    @Override
+    public <P extends Previewable & Identifiable> String generate(P previewable, PageAnalysis analysis) {
+        return generate(analysis.getPropertyValues());
+    }
+
+    private String generate(Map<String, Map<String, PropertyValue>> resources) {
         return new TemplateEngine("factory.hbs.js")
                 .with("name", "propertyValues")
-                .with("resources", this.visit(previewable))
+                .with("resources", resources)
                 .build(this);
     }
 
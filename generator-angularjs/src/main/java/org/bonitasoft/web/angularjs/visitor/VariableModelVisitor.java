@@ -27,6 +27,7 @@
 import org.bonitasoft.web.designer.common.repository.FragmentRepository;
 import org.bonitasoft.web.designer.common.repository.exception.NotFoundException;
 import org.bonitasoft.web.designer.common.repository.exception.RepositoryException;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
 import org.bonitasoft.web.designer.common.visitor.PageFactory;
 import org.bonitasoft.web.designer.model.Identifiable;
 import org.bonitasoft.web.designer.model.data.Variable;
@@ -103,7 +104,15 @@ public Map<String, Map<String, Variable>> visit(ModalContainer modalContainer) {
     }
 
     public <P extends Previewable & Identifiable> String generate(P previewable) {
-        var resources = this.visit(previewable);
+        return generate(this.visit(previewable));
+    }
+
+    @Override
+    public <P extends Previewable & Identifiable> String generate(P previewable, PageAnalysis analysis) {
+        return generate(analysis.getVariables());
+    }
+
+    private String generate(Map<String, Map<String, Variable>> resources) {
         return new TemplateEngine("factory.hbs.js")
                 .with("name", "variableModel")
                 .with("resources", resources == null ? resources : new TreeMap<>(resources))
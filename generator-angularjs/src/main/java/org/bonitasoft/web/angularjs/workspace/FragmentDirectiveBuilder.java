@@ -36,7 +36,6 @@ public class FragmentDirectiveBuilder extends AbstractLiveFileBuilder {
     private final JsonHandler jsonHandler;
     private final HtmlBuilderVisitor htmlBuilderVisitor;
     private final HtmlSanitizer htmlSanitizer;
-    private final TemplateEngine htmlBuilder = new TemplateEngine("fragmentDirectiveTemplate.hbs.js");
 
     public FragmentDirectiveBuilder(Watcher watcher,
             JsonHandler jsonHandler,
@@ -62,7 +61,7 @@ public void build(Path jsonPath) throws IOException {
         var fragment = jsonHandler.fromJson(bytes, Fragment.class);
         write(
                 get(path.replace(".json", ".js")),
-                htmlBuilder
+                new TemplateEngine("fragmentDirectiveTemplate.hbs.js")
                         .with("rowsHtml",
                                 htmlSanitizer
                                         .escapeSingleQuotesAndNewLines(htmlBuilderVisitor.build(fragment.getRows())))
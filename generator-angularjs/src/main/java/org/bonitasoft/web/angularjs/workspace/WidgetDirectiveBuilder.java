@@ -24,6 +24,7 @@
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
+import org.bonitasoft.web.angularjs.rendering.DirectiveStore;
 import org.bonitasoft.web.angularjs.rendering.TemplateEngine;
 import org.bonitasoft.web.designer.common.livebuild.AbstractLiveFileBuilder;
 import org.bonitasoft.web.designer.common.livebuild.Watcher;
@@ -33,18 +34,28 @@ public class WidgetDirectiveBuilder extends AbstractLiveFileBuilder {
 
     private final WidgetFileBasedLoader widgetLoader;
     private final HtmlSanitizer htmlSanitizer;
-    private final TemplateEngine htmlBuilder = new TemplateEngine("widgetDirectiveTemplate.hbs.js");
+    private final DirectiveStore directiveStore;
 
     public WidgetDirectiveBuilder(Watcher watcher,
             WidgetFileBasedLoader widgetLoader, boolean isLiveBuildEnabled) {
+        this(watcher, widgetLoader, isLiveBuildEnabled, null);
+    }
+
+    /**
+     * @param directiveStore keeps built directives in memory, may be null
+     */
+    public WidgetDirectiveBuilder(Watcher watcher,
+            WidgetFileBasedLoader widgetLoader, boolean isLiveBuildEnabled, DirectiveStore directiveStore) {
         super(watcher, isLiveBuildEnabled);
         this.widgetLoader = widgetLoader;
         this.htmlSanitizer = new HtmlSanitizer();
+        this.directiveStore = directiveStore;
     }
 
     /**
      * Build directive corresponding to the widget descriptive json file which has changed.
-     * Resulting js file is created in the same directory than the json file overriding previous build.
+     * Resulting js file is created in the same directory than the json file overriding previous build, and kept in
+     * the directive store if any.
      *
      * @param jsonPath is the path to the widget file to build.
      * @throws IOException
@@ -52,11 +63,14 @@ public WidgetDirectiveBuilder(Watcher watcher,
     @Override
     public void build(Path jsonPath) throws IOException {
         var widget = widgetLoader.get(jsonPath);
-        write(
-                get(valueOf(jsonPath).replace(".json", ".js")),
-                htmlBuilder
-                        .with("escapedTemplate", htmlSanitizer.escapeSingleQuotesAndNewLines(widget.getTemplate()))
-                        .build(widget).getBytes(StandardCharsets.UTF_8));
+        var directiveFile = get(valueOf(jsonPath).replace(".json", ".js"));
+        var directive = new TemplateEngine("widgetDirectiveTemplate.hbs.js")
+                .with("escapedTemplate", htmlSanitizer.escapeSingleQuotesAndNewLines(widget.getTemplate()))
+                .build(widget).getBytes(StandardCharsets.UTF_8);
+        write(directiveFile, directive);
+        if (directiveStore != null) {
+            directiveStore.put(directiveFile, directive);
+        }
     }
 
     @Override
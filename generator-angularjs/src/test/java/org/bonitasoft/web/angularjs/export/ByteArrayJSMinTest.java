@@ -0,0 +1,123 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.angularjs.export;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import inconspicuous.jsmin.JSMin;
+
+/**
+ * Differential tests: {@link ByteArrayJSMin} must produce the same output, or fail the same way, as {@link JSMin}
+ */
+class ByteArrayJSMinTest {
+
+    static Stream<Path> javascriptFiles() throws IOException {
+        try (var files = Stream.of("src/main/runtime", "src/main/resources/widgets", "src/test/javascript")
+                .map(Paths::get)
+                .flatMap(ByteArrayJSMinTest::walk)) {
+            return files.filter(path -> path.toString().endsWith(".js")).sorted()
+                    .collect(Collectors.toList()).stream();
+        }
+    }
+
+    private static Stream<Path> walk(Path directory) {
+        try {
+            return Files.walk(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("javascriptFiles")
+    void should_minify_javascript_files_as_jsmin(Path file) throws Exception {
+        var content = Files.readAllBytes(file);
+
+        assertThat(ByteArrayJSMin.minify(content)).isEqualTo(jsmin(content));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "a",
+            "/",
+            "a /",
+            "var a = b / c;",
+            "\uFEFFvar bom = 1;",
+            "x = a + +b - -c + ++d - --e;\nx = a++ + b;",
+            "if (a) {\r\n  b();\r\n}\r\n",
+            "var\ttab\u0001=\u0007control;",
+            "var s = 'it\\'s', d = \"a \\\" b\", t = `multi ${x}`;",
+            "var re = /[/\\]]+/g, other = x.replace(/\\s+$/, '');",
+            "return /ab+c/.test(s);",
+            "a = b\n/re/.test(c)",
+            "// only a comment",
+            "/* block */ var a; /** doc\n * line\n */ var b;",
+            "var \u00e9 = 'non ascii \u2713';\n",
+            "a\n(b)\n[c]\n{d}\n!e\n~f\n+g\n-h",
+            "}\n]\n)\n\"\"\n''\n`x`\nend",
+            "var x = a /* inline */ / b;",
+            "a = /x/;",
+            "f(/x/",
+            "x = 1 /",
+            "/* unterminated",
+            "/** dffsf /content",
+            "var s = 'unterminated\n';",
+            "var re = /unterminated\n/;",
+            "var re = /a[b\n]/;",
+            "var re = /a//",
+            "var re = /a/* c */",
+    })
+    void should_minify_edge_cases_as_jsmin(String source) {
+        var content = source.getBytes(UTF_8);
+
+        assertThat(outcome(() -> ByteArrayJSMin.minify(content))).isEqualTo(outcome(() -> jsmin(content)));
+    }
+
+    /**
+     * Minified content as a string, or the exception thrown
+     */
+    private Object outcome(Callable<byte[]> minifier) {
+        try {
+            return new String(minifier.call(), ISO_8859_1);
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+
+    private byte[] jsmin(byte[] content) throws Exception {
+        var out = new ByteArrayOutputStream();
+        new JSMin(new ByteArrayInputStream(content), out).jsmin();
+        return out.toByteArray();
+    }
+}
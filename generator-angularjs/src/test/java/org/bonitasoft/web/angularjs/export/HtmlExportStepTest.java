@@ -17,9 +17,14 @@
 package org.bonitasoft.web.angularjs.export;
 
 import static java.nio.file.Paths.get;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -30,6 +35,7 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -54,8 +60,6 @@ void setUp() throws Exception {
 
     @Test
     void should_export_webapp_generator_folder() throws Exception {
-        when(htmlGenerator.generateHtml(ArgumentMatchers.any(Page.class))).thenReturn("");
-        
         step.execute(zipper, PageBuilder.aPage().build());
 
         Mockito.verify(zipper).addDirectoryToZip(get(new File("src/test/resources/").toURI()), Zipper.ALL_DIRECTORIES,
@@ -65,10 +69,19 @@ void should_export_webapp_generator_folder() throws Exception {
 
     @Test
     void should_export_generated_html() throws Exception {
-        when(htmlGenerator.generateHtml(ArgumentMatchers.any(Page.class))).thenReturn("foobar");
+        doAnswer(invocation -> {
+            invocation.<Writer> getArgument(2).write("foobar");
+            return null;
+        }).when(htmlGenerator)
+                .generateHtml(ArgumentMatchers.any(Page.class), eq(""), ArgumentMatchers.any(Writer.class));
 
         step.execute(zipper, PageBuilder.aPage().build());
 
-        Mockito.verify(zipper).addToZip("foobar".getBytes(), "resources/index.html");
+        // html is streamed into the zip entry
+        var entryWriter = ArgumentCaptor.forClass(Zipper.EntryWriter.class);
+        Mockito.verify(zipper).addToZip(entryWriter.capture(), eq("resources/index.html"));
+        var content = new ByteArrayOutputStream();
+        entryWriter.getValue().write(content);
+        assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
     }
 }
@@ -16,6 +16,8 @@
  */
 package org.bonitasoft.web.angularjs.rendering;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.bonitasoft.web.angularjs.utils.assertions.CustomAssertions.assertThatHtmlBody;
 import static org.bonitasoft.web.angularjs.utils.assertions.CustomAssertions.assertThatHtmlHead;
@@ -28,8 +30,11 @@
 import static org.bonitasoft.web.designer.builder.RowBuilder.aRow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -39,10 +44,10 @@
 import org.apache.commons.codec.digest.DigestUtils;
 import org.bonitasoft.web.angularjs.utils.rule.TestResource;
 import org.bonitasoft.web.angularjs.visitor.HtmlBuilderVisitor;
-import org.bonitasoft.web.angularjs.visitor.RequiredModulesVisitor;
 import org.bonitasoft.web.designer.common.repository.AssetRepository;
 import org.bonitasoft.web.designer.common.repository.FragmentRepository;
-import org.bonitasoft.web.designer.common.visitor.AssetVisitor;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysis;
+import org.bonitasoft.web.designer.common.visitor.PageAnalysisVisitor;
 import org.bonitasoft.web.designer.common.visitor.PageFactory;
 import org.bonitasoft.web.designer.model.asset.Asset;
 import org.bonitasoft.web.designer.model.asset.AssetScope;
@@ -71,10 +76,7 @@ class DefaultHtmlGeneratorTest {
     private PageFactory pageFactory;
 
     @Mock
-    private RequiredModulesVisitor requiredModulesVisitor;
-
-    @Mock
-    private AssetVisitor assetVisitor;
+    private PageAnalysisVisitor pageAnalysisVisitor;
 
     @Mock
     private AssetRepository<Page> pageAssetRepository;
@@ -100,14 +102,14 @@ void setUp() throws Exception {
         generator = new DefaultHtmlGenerator(
                 htmlBuilderVisitor,
                 directivesCollector,
-                requiredModulesVisitor,
-                assetVisitor,
+                pageAnalysisVisitor,
                 widgetAssetRepository,
                 pageAssetRepository,
                 List.of(pageFactory),
                 modelVersion);
 
         assetSHA1 = DigestUtils.sha1Hex(assetsContent);
+        lenient().when(pageAnalysisVisitor.analyze(any())).thenReturn(PageAnalysis.empty());
     }
 
     @Test
@@ -127,7 +129,7 @@ void should_generate_an_html_with_the_model_version_in_the_js_resources_URLs() t
     @Test
     void should_generate_an_html_with_the_list_of_widgets() throws Exception {
         Page page = aPage().withId("page-id").build();
-        when(directivesCollector.buildUniqueDirectivesFiles(page, page.getId()))
+        when(directivesCollector.buildUniqueDirectivesFiles(eq(page), eq(page.getId()), any()))
                 .thenReturn(Arrays.asList("assets/widgets.js"));
 
         // when we generate the html
@@ -142,10 +144,9 @@ void should_generate_an_html_with_the_list_of_widgets() throws Exception {
     void should_generate_formatted_html_with_no_context() {
         Page page = aPage().withId("page-id").build();
 
-        when(pageFactory.generate(page)).thenReturn("foobar");
-        when(directivesCollector.buildUniqueDirectivesFiles(page, page.getId()))
+        when(pageFactory.generate(eq(page), any())).thenReturn("foobar");
+        when(directivesCollector.buildUniqueDirectivesFiles(eq(page), eq(page.getId()), any()))
                 .thenReturn(Collections.emptyList());
-        when(assetVisitor.visit(page)).thenReturn(Collections.emptySet());
 
         String html = generator.build(page, "");
 
@@ -156,11 +157,9 @@ void should_generate_formatted_html_with_no_context() {
     @Test
     void should_generate_formatted_html_for_fragment_with_given_widgets() throws Exception {
         Fragment fragment = aFragment().build();
-        when(pageFactory.generate(fragment)).thenReturn("foobar");
-        when(directivesCollector.buildUniqueDirectivesFiles(fragment, fragment.getId()))
+        when(pageFactory.generate(eq(fragment), any())).thenReturn("foobar");
+        when(directivesCollector.buildUniqueDirectivesFiles(eq(fragment), eq(fragment.getId()), any()))
                 .thenReturn(Collections.emptyList());
-        when(assetVisitor.visit(fragment)).thenReturn(Collections.emptySet());
-        when(requiredModulesVisitor.visit(any(Fragment.class))).thenReturn(Collections.emptySet());
 
         String generateHtml = generator.generateHtml(fragment, "mycontext/");
 
@@ -172,7 +171,7 @@ void should_generate_formatted_html_for_fragment_with_given_widgets() throws Exc
     @Test
     void should_build_a_container_fluid_for_a_previewable() throws Exception {
         Page page = aPage().build();
-        when(pageFactory.generate(page)).thenReturn("var foo = \"bar\";");
+        when(pageFactory.generate(eq(page), any())).thenReturn("var foo = \"bar\";");
 
         assertThatHtmlBody(generator.build(page, "mycontext/")).hasElement("div.container-fluid");
     }
@@ -196,11 +195,12 @@ void should_generate_html_for_a_page() throws Exception {
                                 aParagraph().withReference("paragraph-reference")))
                         .withReference("container-reference"))
                 .build();
-        when(pageAssetRepository.readAllBytes(anyString(), any(Asset.class))).thenReturn(assetsContent);
-        when(pageFactory.generate(page)).thenReturn("var baz = \"qux\";");
-        when(directivesCollector.buildUniqueDirectivesFiles(page, page.getId()))
+        when(pageAssetRepository.getHash(anyString(), any(Asset.class))).thenReturn(assetSHA1);
+        when(pageFactory.generate(eq(page), any())).thenReturn("var baz = \"qux\";");
+        when(directivesCollector.buildUniqueDirectivesFiles(eq(page), eq(page.getId()), any()))
                 .thenReturn(Arrays.asList("assets/widgets-f8b2ef17808cccb95dbf0973e7745cd53c29c684.js"));
-        when(assetVisitor.visit(page)).thenReturn(Set.of(assetRelative, assetJquery, assetLocal));
+        when(pageAnalysisVisitor.analyze(page))
+                .thenReturn(anAnalysis(Set.of(assetRelative, assetJquery, assetLocal), emptySet()));
 
         String html = generator.build(page, "mycontext/");
 
@@ -213,7 +213,7 @@ void should_generate_html_for_a_page_with_a_custom_display_name_put_in_title_tag
         Page page = aPage().withId("page-id")
                 .withDisplayName("This is a beautiful title for this page")
                 .build();
-        when(pageFactory.generate(page)).thenReturn("var baz = \"qux\";");
+        when(pageFactory.generate(eq(page), any())).thenReturn("var baz = \"qux\";");
 
         String html = generator.build(page, "mycontext/");
 
@@ -224,7 +224,7 @@ void should_generate_html_for_a_page_with_a_custom_display_name_put_in_title_tag
     @Test
     void should_add_extra_modules_when_widgets_needs_them() throws Exception {
         Page page = aPage().build();
-        when(requiredModulesVisitor.visit(page)).thenReturn(Set.of("needed.module"));
+        when(pageAnalysisVisitor.analyze(page)).thenReturn(anAnalysis(emptySet(), Set.of("needed.module")));
 
         String html = generator.build(page, "");
 
@@ -235,7 +235,6 @@ void should_add_extra_modules_when_widgets_needs_them() throws Exception {
     @Test
     void should_not_add_extra_modules_when_no_widgets_needs_them() throws Exception {
         Page page = aPage().build();
-        when(requiredModulesVisitor.visit(page)).thenReturn(Collections.<String> emptySet());
 
         String html = generator.build(page, "");
 
@@ -246,9 +245,9 @@ void should_not_add_extra_modules_when_no_widgets_needs_them() throws Exception
     @Test
     void should_add_asset_import_in_header() throws Exception {
         Page page = aPage().build();
-        when(pageAssetRepository.readAllBytes(anyString(), any(Asset.class))).thenReturn(assetsContent);
-        when(widgetAssetRepository.readAllBytes(any(Asset.class))).thenReturn(assetsContent);
-        when(assetVisitor.visit(page)).thenReturn(
+        when(pageAssetRepository.getHash(anyString(), any(Asset.class))).thenReturn(assetSHA1);
+        when(widgetAssetRepository.getHash(any(Asset.class))).thenReturn(assetSHA1);
+        when(pageAnalysisVisitor.analyze(page)).thenReturn(anAnalysis(
                 Set.of(
                         //A css file in the page
                         new Asset().setName("myfile.css").setType(AssetType.CSS),
@@ -256,7 +255,7 @@ void should_add_asset_import_in_header() throws Exception {
                         //An external css file in the page
                         //A js file in a widget
                         new Asset().setName("myfile.js").setType(AssetType.JAVASCRIPT).setScope(AssetScope.WIDGET)
-                                .setComponentId("widget-id")));
+                                .setComponentId("widget-id")), emptySet()));
 
         String html = generator.build(page, "mycontext/");
 
@@ -269,9 +268,9 @@ void should_add_asset_import_in_header() throws Exception {
     @Test
     void should_add_active_and_ordered_asset_import_in_header() throws Exception {
         Page page = aPage().build();
-        when(pageAssetRepository.readAllBytes(anyString(), any(Asset.class))).thenReturn(assetsContent);
-        when(widgetAssetRepository.readAllBytes(any(Asset.class))).thenReturn(assetsContent);
-        when(assetVisitor.visit(page)).thenReturn(
+        when(pageAssetRepository.getHash(anyString(), any(Asset.class))).thenReturn(assetSHA1);
+        when(widgetAssetRepository.getHash(any(Asset.class))).thenReturn(assetSHA1);
+        when(pageAnalysisVisitor.analyze(page)).thenReturn(anAnalysis(
                 Set.of(
                         //Widgets assets
                         new Asset().setName("myfile3.js").setOrder(3).setType(AssetType.JAVASCRIPT)
@@ -285,7 +284,7 @@ void should_add_active_and_ordered_asset_import_in_header() throws Exception {
                         new Asset().setName("myfile4.js").setOrder(1).setType(AssetType.JAVASCRIPT)
                                 .setScope(AssetScope.WIDGET).setComponentId("zidget-id"),
                         //Page asset
-                        new Asset().setName("myfile1.js").setOrder(0).setType(AssetType.JAVASCRIPT)));
+                        new Asset().setName("myfile1.js").setOrder(0).setType(AssetType.JAVASCRIPT)), emptySet()));
 
         String html = generator.build(page, "mycontext/");
 
@@ -316,9 +315,9 @@ void should_import_asset_only_once_for_each_widget() throws Exception {
                 .setScope(AssetScope.WIDGET).setComponentId("widget-id"));
         assets.add(new Asset().setName("myfile2.js").setOrder(5).setType(AssetType.JAVASCRIPT)
                 .setScope(AssetScope.WIDGET).setComponentId("widget-id"));
-        when(pageAssetRepository.readAllBytes(anyString(), any(Asset.class))).thenReturn(assetsContent);
-        when(widgetAssetRepository.readAllBytes(any(Asset.class))).thenReturn(assetsContent);
-        when(assetVisitor.visit(page)).thenReturn(assets);
+        when(pageAssetRepository.getHash(anyString(), any(Asset.class))).thenReturn(assetSHA1);
+        when(widgetAssetRepository.getHash(any(Asset.class))).thenReturn(assetSHA1);
+        when(pageAnalysisVisitor.analyze(page)).thenReturn(anAnalysis(assets, emptySet()));
 
         String html = generator.build(page, "mycontext/");
 
@@ -347,8 +346,8 @@ void should_import_asset_only_once_globally() throws Exception {
                 .setScope(AssetScope.WIDGET).setComponentId("vidget-id"));
         assets.add(new Asset().setName("myfile1.js").setOrder(4).setType(AssetType.JAVASCRIPT)
                 .setScope(AssetScope.WIDGET).setComponentId("nidget-id"));
-        when(widgetAssetRepository.readAllBytes(any(Asset.class))).thenReturn(assetsContent);
-        when(assetVisitor.visit(page)).thenReturn(assets);
+        when(widgetAssetRepository.getHash(any(Asset.class))).thenReturn(assetSHA1);
+        when(pageAnalysisVisitor.analyze(page)).thenReturn(anAnalysis(assets, emptySet()));
 
         String html = generator.build(page, "mycontext/");
 
@@ -359,6 +358,35 @@ void should_import_asset_only_once_globally() throws Exception {
                 "<script src=\"widgets/widget-id/assets/js/myfile1.js?hash=" + assetSHA1 + "\"></script>\n");
     }
 
+    @Test
+    void should_normalize_html_written_to_a_writer_by_default() throws Exception {
+        Page page = aPage().withId("page-id").build();
+        var writer = new StringWriter();
+
+        generator.generateHtml(page, "mycontext/", writer);
+
+        assertThat(writer).hasToString(generator.generateHtml(page, "mycontext/"));
+    }
+
+    @Test
+    void should_stream_html_as_built_when_html_normalization_is_disabled() throws Exception {
+        Page page = aPage().withId("page-id")
+                .with(aContainer().with(aRow().with(aParagraph().withReference("paragraph-reference"))))
+                .build();
+        generator.setHtmlNormalizationEnabled(false);
+        var writer = new StringWriter();
+
+        generator.generateHtml(page, "mycontext/", writer);
+
+        assertThat(writer).hasToString(generator.build(page, "mycontext/"));
+        assertThat(generator.generateHtml(page, "mycontext/")).isEqualTo(generator.build(page, "mycontext/"));
+        assertThatHtmlBody(writer.toString()).hasElement("paragraph");
+    }
+
+    private PageAnalysis anAnalysis(Set<Asset> assets, Set<String> requiredModules) {
+        return new PageAnalysis(emptyMap(), emptyMap(), assets, requiredModules, emptyMap(), emptyMap(), emptyMap());
+    }
+
     private String format(String html) {
         return Jsoup.parse(html).toString();
     }
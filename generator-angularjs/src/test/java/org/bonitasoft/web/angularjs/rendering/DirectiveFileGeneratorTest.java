@@ -85,7 +85,7 @@ void should_get_file_name_of_concatenation_widgets_directives_file_who_was_use_i
 
         String filename = generator.generateAllDirectivesFilesInOne(page, pagePath);
 
-        assertThat(filename).isEqualTo("widgets-f66d6f4cc38b2259ec29fa16e9f171251cd3d346.min.js");
+        assertThat(filename).isEqualTo("widgets-7d4c08879edbaa7f38393d400edaa050d268e1bf.min.js");
     }
 
     @Test
@@ -94,13 +94,40 @@ void should_concatenate_and_minify_widgets_directives_file_who_was_use_in_page()
         initFilesForConcatAndMinify(page);
         mockWidgetIdVisitorAndWidgetRepository(page, "pbLabel", "paragraph");
         Path path = temporaryFolder.resolve("pages").resolve(page.getId());
-        String expected = "\nList<String>filename=getWidgetsFilesUsedInPage(previewable);" +
-                "byte[]content=getConcatenationWidgetsDirectives(filename);file2";
+        String expected = "\nfile2\nList<String>filename=getWidgetsFilesUsedInPage(previewable);" +
+                "byte[]content=getConcatenationWidgetsDirectives(filename);";
 
         String filename = generator.generateAllDirectivesFilesInOne(page, path);
 
         assertThat(readString(path.resolve(filename))).isEqualTo(expected);
-        assertThat(filename).isEqualTo("widgets-0f2d4ba1fa1992794df3dca7a9b8e4ec735b4746.min.js");
+        assertThat(filename).isEqualTo("widgets-6da03273ca4237de0b428f0721322e82805c293f.min.js");
+    }
+
+    @Test
+    void should_reuse_directives_bundle_of_pages_using_same_widgets() throws Exception {
+        Page page = aPage().withId("page").build();
+        Page otherPage = aPage().withId("otherPage").build();
+        initWidgetsFileWhoUsedInPage(page);
+        mockWidgetIdVisitorAndWidgetRepository(page, "pbLabel", "paragraph");
+        mockWidgetIdVisitorAndWidgetRepository(otherPage, "paragraph", "pbLabel");
+
+        assertThat(generator.getDirectivesBundle(otherPage)).isSameAs(generator.getDirectivesBundle(page));
+    }
+
+    @Test
+    void should_rebuild_directives_bundle_when_a_widget_changes() throws Exception {
+        Page page = aPage().build();
+        initWidgetsFileWhoUsedInPage(page);
+        mockWidgetIdVisitorAndWidgetRepository(page, "pbLabel", "paragraph");
+        var bundle = generator.getDirectivesBundle(page);
+
+        var pbLabel = write(temporaryFolder.resolve("pbLabel").resolve("pbLabel.js"), "changed".getBytes());
+        // as notified by the watcher of the widgets directory
+        generator.getDirectiveStore().invalidate(pbLabel);
+
+        var rebuilt = generator.getDirectivesBundle(page);
+        assertThat(rebuilt.getHash()).isNotEqualTo(bundle.getHash());
+        assertThat(new String(rebuilt.getContent())).isEqualTo("\nfile2\nchanged");
     }
 
     private void initWidgetsFileWhoUsedInPage(Page page) throws IOException {
@@ -0,0 +1,96 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.angularjs.rendering;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.bonitasoft.web.designer.common.livebuild.PathListener;
+import org.bonitasoft.web.designer.common.livebuild.Watcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+class DirectiveStoreTest {
+
+    @TempDir
+    Path widgetsFolder;
+
+    private DirectiveStore store;
+    private Path pbLabel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new DirectiveStore();
+        pbLabel = Files.createDirectory(widgetsFolder.resolve("pbLabel")).resolve("pbLabel.js");
+    }
+
+    @Test
+    void should_serve_a_stored_directive_without_reading_its_file() throws Exception {
+        Files.write(pbLabel, "var a = 1;".getBytes(UTF_8));
+        store.put(pbLabel, "var a = 1;".getBytes(UTF_8));
+        // same size and modification time, only a read of the file would see the change
+        var lastModified = Files.getLastModifiedTime(pbLabel);
+        Files.write(pbLabel, "var b = 2;".getBytes(UTF_8));
+        Files.setLastModifiedTime(pbLabel, lastModified);
+
+        var directive = store.get(pbLabel);
+
+        assertThat(new String(directive.getSource(), UTF_8)).isEqualTo("var a = 1;");
+        assertThat(new String(directive.getMinified(), UTF_8)).isEqualTo("\nvar a=1;");
+    }
+
+    @Test
+    void should_read_again_a_directive_file_which_change_is_notified_by_the_watcher() throws Exception {
+        var watcher = mock(Watcher.class);
+        store.watch(watcher, widgetsFolder);
+        var listener = ArgumentCaptor.forClass(PathListener.class);
+        verify(watcher).watch(eq(widgetsFolder), listener.capture());
+        Files.write(pbLabel, "var a = 1;".getBytes(UTF_8));
+        store.put(pbLabel, "var a = 1;".getBytes(UTF_8));
+
+        Files.write(pbLabel, "var a = 12;".getBytes(UTF_8));
+        listener.getValue().onChange(pbLabel);
+
+        assertThat(new String(store.get(pbLabel).getSource(), UTF_8)).isEqualTo("var a = 12;");
+    }
+
+    @Test
+    void should_keep_the_minified_directive_of_a_file_touched_but_not_changed() throws Exception {
+        Files.write(pbLabel, "var a = 1;".getBytes(UTF_8));
+        store.put(pbLabel, "var a = 1;".getBytes(UTF_8));
+        var minified = store.get(pbLabel).getMinified();
+
+        store.invalidate(pbLabel);
+
+        assertThat(store.get(pbLabel).getMinified()).isSameAs(minified);
+    }
+
+    @Test
+    void should_read_a_directive_file_not_yet_stored() throws Exception {
+        Files.write(pbLabel, "var a = 1;".getBytes(UTF_8));
+
+        assertThat(new String(store.get(pbLabel).getSource(), UTF_8)).isEqualTo("var a = 1;");
+    }
+}
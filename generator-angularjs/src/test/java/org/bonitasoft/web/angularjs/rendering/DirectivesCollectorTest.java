@@ -105,9 +105,9 @@ void should_collect_widget_file_directive_and_fragment_file_when_fragment_will_b
 
         Page page = PageBuilder.aPage().build();
         Fragment fragment = FragmentBuilder.aFragment().build();
-        byte[] content = this.jsonHandler.toJson(fragment);
-        String fragmentSHA1 = DigestUtils.sha1Hex(content);
+        String fragmentSHA1 = DigestUtils.sha1Hex(this.jsonHandler.toJson(fragment));
         initFileAndMockForPageWhoHasFragment(page, fragment);
+        when(fragmentRepository.getHash(fragment.getId())).thenReturn(fragmentSHA1);
         List<String> expected = asList("js/widgets-123456.js",
                 "fragments/" + fragment.getId() + "/" + fragment.getId() + ".js?hash=" + fragmentSHA1);
 
@@ -127,6 +127,5 @@ private void initFileAndMockForPageWhoHasFragment(Page page, Fragment fragment)
 
         HashSet<String> fragmentIds = new HashSet<>(asList(fragment.getId()));
         when(fragmentIdVisitor.visit(page)).thenReturn(fragmentIds);
-        when(fragmentRepository.getByIds(fragmentIds)).thenReturn(asList(fragment));
     }
 }
@@ -20,7 +20,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -74,6 +74,45 @@ void should_not_displayData_when_ifequal_value_is_false() throws GenerationExcep
         assertThat(template.with("variable", "PAJAVASCRIPT").build(null)).isEmpty();
     }
 
+    @Test
+    void should_compile_a_template_only_once() throws Exception {
+        assertThat(TemplateEngine.compile("templates/template.html"))
+                .isSameAs(TemplateEngine.compile("templates/template.html"));
+    }
+
+    @Test
+    void should_keep_model_of_each_engine_sharing_a_template() throws GenerationException {
+        TemplateEngine first = new TemplateEngine("template.html").with("variable", "first");
+        TemplateEngine second = new TemplateEngine("template.html").with("variable", "second");
+
+        assertThat(first.build(null)).isEqualTo("<div>first</div>");
+        assertThat(second.build(null)).isEqualTo("<div>second</div>");
+    }
+
+    @Test
+    void should_write_markup_given_to_render_helper() throws GenerationException {
+        TemplateEngine template = new TemplateEngine("render-template.html")
+                .with("content", new TemplateEngine("template.html").with("variable", "nested").markup(null));
+
+        assertThat(template.build(null)).isEqualTo("<div><div>nested</div></div>");
+    }
+
+    @Test
+    void should_render_plain_values_given_to_render_helper() throws GenerationException {
+        TemplateEngine template = new TemplateEngine("render-template.html").with("content", "<p>text</p>");
+
+        assertThat(template.build(null)).isEqualTo("<div><p>text</p></div>");
+    }
+
+    @Test
+    void should_apply_template_into_an_appendable() throws GenerationException {
+        var html = new StringBuilder("<body>");
+
+        new TemplateEngine("template.html").with("variable", "foobar").build(null, html);
+
+        assertThat(html).hasToString("<body><div>foobar</div>");
+    }
+
     class Bar {
 
         private String variable;
@@ -35,6 +35,7 @@
 import static org.mockito.Mockito.when;
 
 import org.bonitasoft.web.angularjs.rendering.DefaultHtmlGenerator;
+import org.bonitasoft.web.angularjs.rendering.Markup;
 import org.bonitasoft.web.angularjs.utils.rule.TestResource;
 import org.bonitasoft.web.designer.builder.ModalContainerBuilder;
 import org.bonitasoft.web.designer.common.generator.rendering.GenerationException;
@@ -250,6 +251,19 @@ void should_build_rows() throws Exception {
         assertThatHtmlBody(html).isEqualToBody(testResource.load("rowsWithComponents.html"));
     }
 
+    @Test
+    void should_write_rows_markup_as_built_rows() throws Exception {
+        var rows = asList(
+                aRow().with(aContainer().with(aRow().with(aParagraph().withReference("1")))).build(),
+                aRow().with(aTabsContainer().with(aTabContainer().with(aContainer().with(anInput()))),
+                        aParagraph().withReference("3")).build());
+
+        String html = Markup.toString(visitor.markup(rows));
+
+        assertThat(html).isEqualTo(visitor.build(rows));
+        assertThatHtmlBody(html).hasElement("paragraph");
+    }
+
     @Test
     void should_get_html_from_main_container_of_associated_fragment() throws Exception {
         when(fragmentRepository.get("fragment-id")).thenReturn(aFragment()
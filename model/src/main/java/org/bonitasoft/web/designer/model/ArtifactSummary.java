@@ -0,0 +1,55 @@
+/** 
+ * Copyright (C) 2026 BonitaSoft S.A.
+ * BonitaSoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.designer.model;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * What is needed to list an artifact (page, fragment or widget), read without deserializing the whole artifact
+ */
+@Getter
+@Setter
+@JsonView({ JsonViewLight.class })
+public class ArtifactSummary {
+
+    private String id;
+    private String uuid;
+    private String name;
+    private String type;
+    private Instant lastUpdate;
+    private boolean favorite;
+    /**
+     * Version of the artifact (either model version if any, or designer version)
+     */
+    private String artifactVersion;
+    /**
+     * Ids of the objects (widgets, fragments, ...) referenced by the artifact
+     */
+    @JsonView({ JsonViewPersistence.class })
+    private Set<String> references = new TreeSet<>();
+    /**
+     * Status of the artifact and of its dependencies, only in memory
+     */
+    private ArtifactStatusReport status;
+}
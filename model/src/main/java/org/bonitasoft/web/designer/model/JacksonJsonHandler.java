@@ -19,38 +19,86 @@
 import static java.nio.file.Files.readAllBytes;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bonitasoft.web.designer.model.exception.MalformedJsonException;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import lombok.Getter;
+import lombok.Value;
 
 /**
  * Wraps objectMapper to avoid recurrent issue like encoding ones
+ * <p>
+ * Readers and writers are built once per type, view and format then reused, they are immutable and thread safe. The
+ * object mapper configuration must therefore be complete before the handler is used. Json is written as UTF-8 bytes,
+ * without going through an intermediate String.
  */
 public class JacksonJsonHandler implements JsonHandler {
 
     @Getter
     private final ObjectMapper objectMapper;
 
+    private final Map<Key, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Key, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final ObjectReader mapReader;
+    private final ObjectReader complexMapReader;
+
     public JacksonJsonHandler(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        var typeFactory = objectMapper.getTypeFactory();
+        this.mapReader = objectMapper.readerFor(typeFactory.constructMapType(HashMap.class, String.class,
+                String.class));
+        this.complexMapReader = objectMapper.readerFor(typeFactory.constructMapType(LinkedHashMap.class, String.class,
+                Object.class));
+    }
+
+    private ObjectReader reader(Class<?> type, Class<?> view) {
+        return readers.computeIfAbsent(new Key(type, view, Format.COMPACT), key -> view == null
+                ? objectMapper.readerFor(type)
+                : objectMapper.readerWithView(view).forType(type));
+    }
+
+    private ObjectWriter writer(Class<?> view, Format format) {
+        return writers.computeIfAbsent(new Key(null, view, format), key -> {
+            // writers may target a zip entry which must stay open once the json is written
+            var writer = (view == null ? objectMapper.writer() : objectMapper.writerWithView(view))
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            switch (format) {
+                case PRETTY:
+                    return writer.with(new DefaultPrettyPrinter()
+                            .withArrayIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE));
+                case LOCALIZATION:
+                    return writer.with(new LocalizationPrettyPrinter(": ")
+                            .withArrayIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE));
+                case PRETTY_PRINT:
+                    // same as the default pretty printer of the mapper, with null values
+                    return objectMapper.copy().setSerializationInclusion(JsonInclude.Include.ALWAYS)
+                            .writerWithDefaultPrettyPrinter();
+                default:
+                    return writer;
+            }
+        });
     }
 
     @Override
     public <T> T fromJson(byte[] bytes, Class<T> type) throws IOException {
-        return objectMapper.readValue(bytes, type);
+        return reader(type, null).readValue(bytes);
     }
 
     @Override
@@ -60,34 +108,35 @@ public <T> T fromJson(Path jsonFile, Class<T> type, Class<?> view) throws IOExce
 
     @Override
     public <T> T fromJson(byte[] bytes, Class<T> type, Class<?> view) throws IOException {
-        return objectMapper.reader().withView(view).forType(type).readValue(bytes);
+        return reader(type, view).readValue(bytes);
     }
 
     @Override
     public Map<String, String> fromJsonToMap(byte[] bytes) throws IOException {
-        var factory = TypeFactory.defaultInstance();
-        var mapType = factory.constructMapType(HashMap.class, String.class, String.class);
-        return objectMapper.readValue(bytes, mapType);
+        return mapReader.readValue(bytes);
     }
 
     @Override
     public LinkedHashMap<String, Object> fromJsonToComplexMap(byte[] bytes) throws IOException {
-        var factory = TypeFactory.defaultInstance();
-        var mapType = factory.constructMapType(LinkedHashMap.class, String.class, Object.class);
-        return objectMapper.readValue(bytes, mapType);
+        return complexMapReader.readValue(bytes);
     }
 
     @Override
     public byte[] toJson(Object object) throws IOException {
         // Use UTF8 to accept any character and have platform-independent files.
-        return objectMapper.writeValueAsString(object).getBytes(StandardCharsets.UTF_8);
+        return writer(null, Format.COMPACT).writeValueAsBytes(object);
     }
 
     @Override
     public byte[] toJson(Object object, Class<?> serializationView) throws IOException {
         // Use UTF8 to accept any character and have platform-independent files.
-        return objectMapper.writerWithView(serializationView).writeValueAsString(object)
-                .getBytes(StandardCharsets.UTF_8);
+        return writer(serializationView, Format.COMPACT).writeValueAsBytes(object);
+    }
+
+    @Override
+    public void toJson(Object object, Class<?> serializationView, OutputStream outputStream) throws IOException {
+        // Use UTF8 to accept any character and have platform-independent files.
+        writer(serializationView, Format.COMPACT).writeValue(outputStream, object);
     }
 
     @Override
@@ -103,38 +152,24 @@ public String toJsonString(Object object, Class<?> serializationView) throws IOE
     @Override
     public byte[] toJson(Map<String, String> map) throws IOException {
         // Use UTF8 to accept any character and have platform-independent files.
-        return objectMapper.writeValueAsString(map).getBytes(StandardCharsets.UTF_8);
+        return writer(null, Format.COMPACT).writeValueAsBytes(map);
     }
 
     @Override
     public byte[] toPrettyJsonFromComplexMap(LinkedHashMap<String, Object> map) throws IOException {
         // Use UTF8 to accept any character and have platform-independent files.
-        return objectMapper.writer().with(new LocalizationPrettyPrinter(": ")
-                .withArrayIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE))
-                .writeValueAsString(map)
-                .getBytes(StandardCharsets.UTF_8);
+        return writer(null, Format.LOCALIZATION).writeValueAsBytes(map);
     }
 
     @Override
     public byte[] toPrettyJson(Object object, Class<?> serializationView) throws IOException {
         // Use UTF8 to accept any character and have platform-independent files.
-        return objectMapper.writerWithView(serializationView)
-                .with(new DefaultPrettyPrinter()
-                        .withArrayIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE))
-                .writeValueAsString(object)
-                .getBytes(StandardCharsets.UTF_8);
+        return writer(serializationView, Format.PRETTY).writeValueAsBytes(object);
     }
 
     @Override
     public String prettyPrint(Object object) throws IOException {
-        objectMapper.setSerializationInclusion(JsonInclude.Include.ALWAYS);
-        try {
-            return objectMapper
-                    .writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(object);
-        } finally {
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        }
+        return writer(null, Format.PRETTY_PRINT).writeValueAsString(object);
     }
 
     @Override
@@ -158,4 +193,25 @@ public void checkValidJson(byte[] bytes) throws IOException {
     public <T> T assign(T target, byte[] source) throws IOException {
         return objectMapper.readerForUpdating(target).readValue(source);
     }
+
+    @Override
+    public <T> T deepCopy(T object, Class<T> type) throws IOException {
+        var buffer = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(buffer, object);
+        try (var parser = buffer.asParser()) {
+            return objectMapper.readValue(parser, type);
+        }
+    }
+
+    private enum Format {
+        COMPACT, PRETTY, LOCALIZATION, PRETTY_PRINT
+    }
+
+    @Value
+    private static class Key {
+
+        Class<?> type;
+        Class<?> view;
+        Format format;
+    }
 }
@@ -17,6 +17,7 @@
 package org.bonitasoft.web.designer.model;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -40,6 +41,11 @@ public interface JsonHandler {
 
     byte[] toJson(Object object, Class<?> serializationView) throws IOException;
 
+    /**
+     * Write the json of the object straight into the given stream, which is left open
+     */
+    void toJson(Object object, Class<?> serializationView, OutputStream outputStream) throws IOException;
+
     String toJsonString(Object object) throws IOException;
 
     String toJsonString(Object object, Class<?> serializationView) throws IOException;
@@ -57,4 +63,9 @@ public interface JsonHandler {
     void checkValidJson(byte[] bytes) throws IOException;
 
     <T> T assign(T target, byte[] source) throws IOException;
+
+    /**
+     * Create an independent copy of an object by replaying its serialized form, without going through a json text
+     */
+    <T> T deepCopy(T object, Class<T> type) throws IOException;
 }
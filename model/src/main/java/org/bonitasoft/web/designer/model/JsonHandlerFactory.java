@@ -16,6 +16,9 @@
  */
 package org.bonitasoft.web.designer.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.bonitasoft.web.designer.model.page.Component;
 import org.bonitasoft.web.designer.model.page.Container;
 import org.bonitasoft.web.designer.model.page.FormContainer;
@@ -27,6 +30,7 @@
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
@@ -34,6 +38,18 @@
 
 public class JsonHandlerFactory {
 
+    private final List<Module> modules = new ArrayList<>();
+
+    /**
+     * Register an additional Jackson module on the handlers created by this factory. This is the opt-in for modules
+     * which are not shipped with the designer, like Blackbird (com.fasterxml.jackson.module:jackson-module-blackbird)
+     * generating property accessors instead of using reflection.
+     */
+    public JsonHandlerFactory withModule(Module module) {
+        modules.add(module);
+        return this;
+    }
+
     /**
      * We use our own default json Mapper
      */
@@ -69,6 +85,8 @@ private ObjectMapper objectMapper() {
         simpleFilterProvider.setFailOnUnknownId(false);
         objectMapper.setFilterProvider(simpleFilterProvider);
 
+        modules.forEach(objectMapper::registerModule);
+
         return objectMapper;
     }
 
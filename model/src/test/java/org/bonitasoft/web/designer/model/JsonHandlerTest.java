@@ -18,6 +18,9 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -77,6 +80,40 @@ void should_serialize_object_into_json_using_serialization_view() throws Excepti
                 "{\"name\":\"Vincent\",\"number\":1}", false);
     }
 
+    @Test
+    void should_serialize_object_into_a_stream_left_open() throws Exception {
+        SimpleObject object = new SimpleObject("id", "Vincent", 1);
+        var out = new ByteArrayOutputStream();
+        var stream = new FilterOutputStream(out) {
+
+            @Override
+            public void close() throws IOException {
+                throw new IOException("stream should be left open");
+            }
+        };
+
+        jsonHandler.toJson(object, JsonViewPersistence.class, stream);
+
+        assertThat(out.toByteArray()).isEqualTo(jsonHandler.toJson(object, JsonViewPersistence.class));
+    }
+
+    @Test
+    void should_serialize_non_ascii_characters_as_utf8() throws Exception {
+        SimpleObject object = new SimpleObject("id", "Nom par défaut 日本", 1);
+
+        assertThat(new String(jsonHandler.toJson(object, JsonViewPersistence.class), StandardCharsets.UTF_8))
+                .contains("Nom par défaut 日本");
+    }
+
+    @Test
+    void should_not_serialize_null_values_after_a_pretty_print() throws Exception {
+        SimpleObject object = new SimpleObject("id", "Vincent", 1);
+
+        jsonHandler.prettyPrint(object);
+
+        assertThat(new String(jsonHandler.toJson(object), StandardCharsets.UTF_8)).doesNotContain("another");
+    }
+
     @Test
     void should_serialize_object_into_human_readable_json_using_serialization_view() throws Exception {
         SimpleObject object = new SimpleObject("id", "Vincent", 1);
@@ -164,4 +201,16 @@ void should_serialize_into_object_with_ignore_password() throws Exception {
                 false);
     }
 
+    @Test
+    void should_deep_copy_an_object() throws Exception {
+        SimpleObject another = new SimpleObject("anotherId", "Walter", 2);
+        SimpleObject object = new SimpleObject("id", "Vincent", 1);
+        object.setAnother(another);
+
+        SimpleObject copy = jsonHandler.deepCopy(object, SimpleObject.class);
+
+        assertThat(copy).isEqualTo(object).isNotSameAs(object);
+        assertThat(copy.getAnother()).isEqualTo(another).isNotSameAs(another);
+    }
+
 }